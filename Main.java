@@ -1,6 +1,59 @@
+import java.io.File;
+
+import fundamentals.appbase.HeadlessRuntime;
+
 public class Main
 {
     public static void main(String[] args) {
+        for(var arg : args) {
+            if(arg.equals("--headless")) {
+                runHeadless(args);
+                return;
+            }
+        }
+
         new App().startApp();
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs the app without a window. 
+     * EX: java Main --headless --ticks=100000 --uncapped --render-interval=10
+     * 
+     * @see Options: --ticks=N, --millis=N (real time), --tick-rate=N, --uncapped, --render-interval=N, --dump-frames=DIRECTORY
+     */
+    private static void runHeadless(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        HeadlessRuntime runtime = new HeadlessRuntime(new App());
+        for(var arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if(arg.startsWith("--ticks=")) {
+                runtime.setTickLimit(Long.parseLong(value));
+            }
+            else if(arg.startsWith("--millis=")) {
+                runtime.setTimeLimitMillis(Long.parseLong(value));
+            }
+            else if(arg.startsWith("--tick-rate=")) {
+                runtime.setTickRate(Integer.parseInt(value));
+            }
+            else if(arg.equals("--uncapped")) {
+                runtime.setUncapped(true);
+            }
+            else if(arg.startsWith("--render-interval=")) {
+                runtime.setRenderIntervalTicks(Integer.parseInt(value));
+            }
+            else if(arg.startsWith("--dump-frames=")) {
+                runtime.setFrameDumpDirectory(new File(value));
+            }
+        }
+
+        runtime.run();
+        System.out.printf("Ran %,d ticks (%,d simulated ms) in %,.1f ms: %,.0f ticks/s%n", runtime.getTicks(), runtime.getSimulatedMillis(), 
+            runtime.getElapsedNanos() / 1e6, runtime.getTicksPerSecond());
+        if(runtime.getOffscreenRenderer() != null) {
+            System.out.printf("Rendered %,d frames in %,.1f ms: p50 %.3f ms, p99 %.3f ms, max %.3f ms%n", runtime.getFrames(), runtime.getRenderNanos() / 1e6, 
+                runtime.getOffscreenRenderer().getPercentileNanos(0.5) / 1e6, runtime.getOffscreenRenderer().getPercentileNanos(0.99) / 1e6, 
+                runtime.getOffscreenRenderer().getPercentileNanos(1) / 1e6);
+        }
+        System.exit(0);
+    }
+}
@@ -0,0 +1,129 @@
+package app;
+
+import java.awt.Canvas;
+import java.awt.DisplayMode;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+
+import fundamentals.Constants;
+
+/**
+ * ActiveRenderer is responsible for actively rendering frames onto the application's window from its own dedicated thread, rather than
+ * waiting for the window to be repainted. Moreover, each frame is rendered by GraphicsRenderer into the back buffer of a BufferStrategy,
+ * and the back buffer is then explicitly flipped onto the screen. Frames are rendered at a target frame rate, which defaults to the
+ * display's refresh rate.
+ *
+ * @see
+ * Note: ActiveRenderer is used when Constants.WINDOW_CHARACTERISTICS.ACTIVE_RENDERING is enabled; otherwise GraphicsRenderer
+ * is added to the window and passively repainted.
+ */
+@SuppressWarnings("serial")
+public class ActiveRenderer extends Canvas
+{
+    private static final int BUFFER_COUNT = 2;
+    private static final int DEFAULT_FRAME_RATE = 60;
+    private static ActiveRenderer active_renderer = new ActiveRenderer();
+
+    private Thread render_thread = null;
+    private volatile boolean running = false;
+    private volatile int target_frame_rate = Constants.WINDOW_CHARACTERISTICS.TARGET_FRAME_RATE;
+    private int refresh_rate = DEFAULT_FRAME_RATE;
+
+    /**
+     * ActiveRenderer is responsible for actively rendering frames onto the application's window from its own dedicated thread, rather than
+     * waiting for the window to be repainted.
+     */
+    public ActiveRenderer() {
+        // Frames are only ever rendered by the render thread:
+        setIgnoreRepaint(true);
+        setBackground(GraphicsRenderer.getInstance().getBackground());
+    }
+
+    /**
+     * Begins rendering frames on the dedicated render thread. Must be called once the ActiveRenderer has been added to a visible window.
+     */
+    public synchronized void start() {
+        if(running) {
+            return;
+        }
+
+        int display_refresh_rate = getGraphicsConfiguration().getDevice().getDisplayMode().getRefreshRate();
+        refresh_rate = (display_refresh_rate != DisplayMode.REFRESH_RATE_UNKNOWN) ? display_refresh_rate : DEFAULT_FRAME_RATE;
+        createBufferStrategy(BUFFER_COUNT);
+        running = true;
+        render_thread = new Thread(this::run, "ActiveRenderer");
+        render_thread.setDaemon(true);
+        render_thread.start();
+    }
+
+    /**
+     * Stops rendering frames once the current frame has been rendered.
+     */
+    public synchronized void stop() {
+        running = false;
+        if(render_thread != null) {
+            render_thread.interrupt();
+            render_thread = null;
+        }
+    }
+
+    private void run() {
+        BufferStrategy buffer_strategy = getBufferStrategy();
+        long next_frame_nanos = System.nanoTime();
+        while(running) {
+            renderFrame(buffer_strategy);
+
+            long frame_nanos = 1000000000L / getFrameRate();
+            next_frame_nanos += frame_nanos;
+            long remaining_nanos = next_frame_nanos - System.nanoTime();
+            if(remaining_nanos > 0) {
+                try {
+                    Thread.sleep(remaining_nanos / 1000000, (int)(remaining_nanos % 1000000));
+                }
+                catch(InterruptedException e) {}
+            }
+            else if(-remaining_nanos > frame_nanos) {
+                // Rendering fell behind by more than a frame, so don't try to catch up on the missed frames:
+                next_frame_nanos = System.nanoTime();
+            }
+        }
+    }
+
+    private void renderFrame(BufferStrategy buffer_strategy) {
+        do {
+            do {
+                Graphics2D graphics_2d = (Graphics2D)buffer_strategy.getDrawGraphics();
+                try {
+                    GraphicsRenderer.getInstance().render(graphics_2d);
+                }
+                finally {
+                    graphics_2d.dispose();
+                }
+            } while(buffer_strategy.contentsRestored());
+
+            buffer_strategy.show();
+        } while(buffer_strategy.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /**
+     * @return The frame rate that frames are rendered at; either the target frame rate, or the display's refresh rate if there is no target.
+     */
+    public int getFrameRate() {
+        return (target_frame_rate > 0) ? target_frame_rate : refresh_rate;
+    }
+
+    /**
+     * Used to set the frame rate that frames are rendered at.
+     * @param target_frame_rate (int) : The specified frames per second, or zero to render at the display's refresh rate.
+     */
+    public void setTargetFrameRate(int target_frame_rate) {
+        this.target_frame_rate = Math.max(target_frame_rate, 0);
+    }
+
+    public static ActiveRenderer getInstance() {
+        return active_renderer;
+    }
+}
@@ -0,0 +1,136 @@
+package app;
+
+import fundamentals.Constants;
+
+/**
+ * Used to hold a SceneRenderer's render time near a target by lowering and raising its internal resolution and rendering hints whenever the
+ * cost of rendering changes, such as when the amount of components suddenly spikes. Moreover, once the average render time exceeds the
+ * target, the quality hints are dropped first, and then the internal resolution is divided by GRAPHICS_TRANSFORMATION_SCALER until the
+ * target is met or the minimum resolution is reached. Once rendering is cheap enough again, the same steps are reversed.
+ *
+ * @see
+ * Note: Raising the resolution by one step multiplies the amount of pixels drawn by the square of GRAPHICS_TRANSFORMATION_SCALER, so the
+ * resolution is only raised once the average render time is far enough below the target that it would still be met afterwards. Every
+ * change is followed by a number of frames where no further change is made, which prevents the resolution from oscillating.
+ */
+public class DynamicResolutionController
+{
+    private static final double SMOOTHING_FACTOR = 0.1;
+    private static final int SETTLING_FRAMES = 30;
+    private static final double RAISE_HEADROOM_PCT = 0.9;
+
+    private final SceneRenderer scene_renderer;
+    private boolean enabled = Constants.WINDOW_CHARACTERISTICS.DYNAMIC_RESOLUTION_SCALING;
+    private double step_factor = Math.max(Constants.WINDOW_CHARACTERISTICS.GRAPHICS_TRANSFORMATION_SCALER, 1.01);
+    private double min_render_scale = Constants.WINDOW_CHARACTERISTICS.MIN_DYNAMIC_RENDER_SCALE;
+    private long target_render_nanos = (long)(Constants.WINDOW_CHARACTERISTICS.TARGET_RENDER_MILLIS * 1000000);
+    private double average_render_nanos = 0;
+    private int settling_frames = 0;
+
+    /**
+     * Used to hold a SceneRenderer's render time near a target by lowering and raising its internal resolution and rendering hints.
+     * @param scene_renderer (SceneRenderer) : The specified SceneRenderer whose internal resolution and rendering hints are controlled.
+     */
+    public DynamicResolutionController(SceneRenderer scene_renderer) {
+        this.scene_renderer = scene_renderer;
+    }
+
+    /**
+     * Used to report how long the SceneRenderer took to render its last frame, which may lower or raise its internal resolution and 
+     * rendering hints for the next frame.
+     * 
+     * @param render_nanos (long) : The specified time that the last frame took to render. Unit of measurement: Nanoseconds.
+     */
+    public synchronized void update(long render_nanos) {
+        if(!enabled) {
+            return;
+        }
+
+        average_render_nanos = (average_render_nanos == 0) ? render_nanos 
+            : average_render_nanos + (render_nanos - average_render_nanos) * SMOOTHING_FACTOR;
+        if(settling_frames > 0) {
+            settling_frames--;
+            return;
+        }
+
+        double render_scale = scene_renderer.getRenderScale();
+        if(average_render_nanos > target_render_nanos) {
+            if(scene_renderer.isHighQuality()) {
+                scene_renderer.setHighQuality(false);
+            }
+            else if(render_scale > min_render_scale) {
+                scene_renderer.setRenderScale(Math.max(render_scale / step_factor, min_render_scale));
+            }
+            else {
+                return;
+            }
+            settling_frames = SETTLING_FRAMES;
+        }
+        else if(average_render_nanos * step_factor * step_factor < target_render_nanos * RAISE_HEADROOM_PCT) {
+            if(render_scale < 1) {
+                scene_renderer.setRenderScale(Math.min(render_scale * step_factor, 1));
+            }
+            else if(!scene_renderer.isHighQuality()) {
+                scene_renderer.setHighQuality(true);
+            }
+            else {
+                return;
+            }
+            settling_frames = SETTLING_FRAMES;
+        }
+    }
+
+    /**
+     * Used to enable or disable the controller. Disabling the controller restores the SceneRenderer's full resolution and quality hints.
+     * @param enabled (boolean) : Whether or not the SceneRenderer's internal resolution should be controlled.
+     */
+    public synchronized void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if(!enabled) {
+            scene_renderer.setRenderScale(1);
+            scene_renderer.setHighQuality(true);
+            average_render_nanos = 0;
+            settling_frames = 0;
+        }
+    }
+
+    /**
+     * @return Whether or not the SceneRenderer's internal resolution is controlled.
+     */
+    public synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Used to set the render time that the controller aims to hold each frame at or below.
+     * @param target_render_millis (double) : The specified positive render time. Unit of measurement: Milliseconds.
+     */
+    public synchronized void setTargetRenderMillis(double target_render_millis) {
+        target_render_nanos = (long)(Math.max(target_render_millis, 0.1) * 1000000);
+    }
+
+    /**
+     * Used to set the lowest internal resolution that the controller may lower the SceneRenderer to.
+     * @param min_render_scale (double) : The specified scale within the interval: [0.1, 1].
+     */
+    public synchronized void setMinRenderScale(double min_render_scale) {
+        this.min_render_scale = Math.min(Math.max(min_render_scale, 0.1), 1);
+    }
+
+    /**
+     * Used to set the factor that the internal resolution is divided or multiplied by with each step.
+     * @param step_factor (double) : The specified factor, which must be greater than 1.
+     */
+    public synchronized void setStepFactor(double step_factor) {
+        if(step_factor > 1) {
+            this.step_factor = step_factor;
+        }
+    }
+
+    /**
+     * @return The smoothed average time that frames took to render. Unit of measurement: Nanoseconds.
+     */
+    public synchronized long getAverageRenderNanos() {
+        return (long)average_render_nanos;
+    }
+}
@@ -0,0 +1,167 @@
+package app;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import fundamentals.Constants;
+import fundamentals.appbase.FrameProfiler;
+import fundamentals.appbase.PhaseTimer;
+
+/**
+ * FrameTimingHUD is an overlay that is drawn over the top-left corner of the window, which displays the rolling minimum, average, and 99th
+ * percentile time of each tick phase and of rendering, along with the frame rate, the amount of active components, scheduled mechanics,
+ * and registered events. Moreover, the HUD is toggled at runtime by pressing Constants.WINDOW_CHARACTERISTICS.HUD_TOGGLE_KEY.
+ *
+ * @see
+ * Note: Every printable ASCII glyph is rasterized once into a glyph sheet. The HUD's text is only refreshed every HUD_REFRESH_MILLIS, 
+ * at which point its glyphs are copied from the sheet into a panel image; every other frame only draws the panel image.
+ *
+ * @see
+ * Note: The FrameProfiler only times phases while the HUD is visible.
+ */
+public class FrameTimingHUD
+{
+    private static final char FIRST_GLYPH = ' ';
+    private static final char LAST_GLYPH = '~';
+    private static final int MAX_COLUMNS = 48;
+    private static final int MAX_LINES = 8;
+    private static final int PADDING = 4;
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color PANEL_BACKGROUND = new Color(0, 0, 0, 160);
+    private static FrameTimingHUD frame_timing_hud = new FrameTimingHUD();
+
+    private BufferedImage glyph_sheet = null;
+    private BufferedImage panel = null;
+    private int glyph_width = 0;
+    private int glyph_height = 0;
+    private int glyph_ascent = 0;
+    private volatile boolean visible = false;
+    private long next_refresh_nanos = 0;
+    private long last_refresh_nanos = 0;
+    private int frames_since_refresh = 0;
+    private String[] lines = new String[MAX_LINES];
+
+    /**
+     * Used to toggle the HUD between visible and hidden.
+     */
+    public void toggleVisible() {
+        setVisible(!visible);
+    }
+
+    /**
+     * Used to show or hide the HUD, which also enables or disables the FrameProfiler.
+     * @param visible (boolean) : Whether or not the HUD should be drawn.
+     */
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+        FrameProfiler.getInstance().setEnabled(visible);
+    }
+
+    /**
+     * @return Whether or not the HUD is drawn.
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Draws the HUD onto the graphics passed in if the HUD is visible, refreshing its text first if HUD_REFRESH_MILLIS have passed.
+     * 
+     * @param scene_renderer (SceneRenderer) : The specified SceneRenderer that rendered the frame, which the amount of active components
+     * and the internal resolution are read from.
+     */
+    public synchronized void draw(Graphics2D graphics_2d, SceneRenderer scene_renderer) {
+        if(!visible) {
+            return;
+        }
+        if(glyph_sheet == null) {
+            createGlyphSheet();
+        }
+
+        frames_since_refresh++;
+        long current_nanos = System.nanoTime();
+        if(current_nanos - next_refresh_nanos >= 0) {
+            refresh(scene_renderer, current_nanos);
+        }
+
+        graphics_2d.drawImage(panel, 0, 0, null);
+    }
+
+    private void refresh(SceneRenderer scene_renderer, long current_nanos) {
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        double fps = (last_refresh_nanos != 0) ? frames_since_refresh * 1e9 / (current_nanos - last_refresh_nanos) : 0;
+        frames_since_refresh = 0;
+        last_refresh_nanos = current_nanos;
+        next_refresh_nanos = current_nanos + Constants.WINDOW_CHARACTERISTICS.HUD_REFRESH_MILLIS * 1000000L;
+
+        int line_count = 0;
+        lines[line_count++] = String.format("FPS %.1f  scale %.2f%s", fps, scene_renderer.getRenderScale(), 
+            scene_renderer.isHighQuality() ? "" : " (fast)");
+        lines[line_count++] = String.format("components %d  mechanics %d  events %d", scene_renderer.getActiveComponentCount(),
+            profiler.getScheduledMechanicCount(), profiler.getEventCount());
+        lines[line_count++] = String.format("%-10s %8s %8s %8s", "ms", "min", "avg", "p99");
+        for(int phase = 0; phase < profiler.getPhaseCount(); phase++) {
+            PhaseTimer timer = profiler.getTimer(phase);
+            lines[line_count++] = String.format("%-10s %8.3f %8.3f %8.3f", timer.getName(), timer.getMinNanos() / 1e6, 
+                timer.getAverageNanos() / 1e6, timer.getPercentileNanos(0.99) / 1e6);
+        }
+
+        Graphics2D graphics_2d = panel.createGraphics();
+        graphics_2d.setComposite(AlphaComposite.Src);
+        graphics_2d.setColor(PANEL_BACKGROUND);
+        graphics_2d.fillRect(0, 0, panel.getWidth(), panel.getHeight());
+        graphics_2d.setComposite(AlphaComposite.SrcOver);
+        for(int line = 0; line < line_count; line++) {
+            drawLine(graphics_2d, lines[line], PADDING, PADDING + line * glyph_height);
+        }
+        graphics_2d.dispose();
+    }
+
+    /**
+     * Copies each glyph of the line passed in from the glyph sheet; characters without a glyph are drawn as '?'.
+     */
+    private void drawLine(Graphics2D graphics_2d, String line, int x, int y) {
+        for(int column = 0; column < Math.min(line.length(), MAX_COLUMNS); column++) {
+            char glyph = line.charAt(column);
+            if(glyph == ' ') {
+                continue;
+            }
+
+            int source_x = ((glyph >= FIRST_GLYPH && glyph <= LAST_GLYPH) ? glyph - FIRST_GLYPH : '?' - FIRST_GLYPH) * glyph_width;
+            int destination_x = x + column * glyph_width;
+            graphics_2d.drawImage(glyph_sheet, destination_x, y, destination_x + glyph_width, y + glyph_height, source_x, 0, 
+                source_x + glyph_width, glyph_height, null);
+        }
+    }
+
+    private void createGlyphSheet() {
+        BufferedImage measure_image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D measure_graphics = measure_image.createGraphics();
+        FontMetrics font_metrics = measure_graphics.getFontMetrics(FONT);
+        glyph_width = font_metrics.charWidth('M');
+        glyph_height = font_metrics.getHeight();
+        glyph_ascent = font_metrics.getAscent();
+        measure_graphics.dispose();
+
+        glyph_sheet = new BufferedImage((LAST_GLYPH - FIRST_GLYPH + 1) * glyph_width, glyph_height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics_2d = glyph_sheet.createGraphics();
+        graphics_2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        graphics_2d.setFont(FONT);
+        graphics_2d.setColor(Color.WHITE);
+        for(char glyph = FIRST_GLYPH; glyph <= LAST_GLYPH; glyph++) {
+            graphics_2d.drawString(String.valueOf(glyph), (glyph - FIRST_GLYPH) * glyph_width, glyph_ascent);
+        }
+        graphics_2d.dispose();
+
+        panel = new BufferedImage(MAX_COLUMNS * glyph_width + 2 * PADDING, MAX_LINES * glyph_height + 2 * PADDING, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    public static FrameTimingHUD getInstance() {
+        return frame_timing_hud;
+    }
+}
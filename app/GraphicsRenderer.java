@@ -1,11 +1,10 @@
 package app;
 
 import java.awt.*;
-import java.awt.geom.AffineTransform;
 import javax.swing.JPanel;
 
 import fundamentals.Constants;
-import fundamentals.component.ComponentRegistry;
+import fundamentals.appbase.FrameProfiler;
 
 /**
  * GraphicsRenderer is responsible for painting all Components onto the application's window with the use of the Graphics class, and
@@ -15,11 +14,23 @@ import fundamentals.component.ComponentRegistry;
  * 
  * @see Given that registered Components remain registered unless they are manually unregistered, all registered Components will
  * remain continuously being painted on-screen, allowing any changes they may undergo at any moment be reflected on-screen.  
+ * 
+ * @see
+ * Note: The drawing itself is done by the window's SceneRenderer, which can render onto any Graphics2D; GraphicsRenderer only provides
+ * it with the window's graphics.
+ *
+ * @see
+ * Note: How long each frame takes to render is reported to a DynamicResolutionController, which lowers the window's internal resolution
+ * when frames become too expensive to render.
  */
 public class GraphicsRenderer extends JPanel 
 {
     private static GraphicsRenderer app_graphics = new GraphicsRenderer();
 
+    private final SceneRenderer scene_renderer = new SceneRenderer(Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH, 
+        Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT);
+    private final DynamicResolutionController resolution_controller = new DynamicResolutionController(scene_renderer);
+
     /**
      * GraphicsRenderer is responsible for painting all Components onto the application's window with the use of the Graphics class, and
      * the Graphics instance passed into the overridden method, paintComponent(Graphics graphics), 
@@ -29,42 +40,49 @@ public class GraphicsRenderer extends JPanel
      * @see Given that registered Components remain registered unless they are manually unregistered, all registered Components will
      * remain continuously being painted on-screen, allowing any changes they may undergo at any moment be reflected on-screen.  
      */
-    public GraphicsRenderer() {}
+    public GraphicsRenderer() {
+        scene_renderer.setBackground(getBackground());
+    }
 
     @Override
     protected void paintComponent(Graphics graphics) {
-        // Get graphics:
-        Graphics2D graphics_2d = (Graphics2D)graphics;
-        // Render cleared backround before rendering:
-        graphics.setColor(getBackground());
-        graphics.fillRect(0, 0, Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH, Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT);
-        // Iterate through component registry and render components:
-        for(var comp : ComponentRegistry.getComponents()) {
-            try {
-                if(comp.getActivity()) {
-                    int x = comp.getCoordinates().getX() - (comp.getWidth() / 2);
-                    int y = comp.getCoordinates().getY() - (comp.getHeight() / 2);    
+        render((Graphics2D)graphics);
+        repaint();
+    }
+
+    /**
+     * Used to render a cleared background along with every active component onto the graphics passed in. Moreover, this is used by
+     * paintComponent(Graphics graphics) when the window is passively repainted, and by ActiveRenderer when frames are actively rendered.
+     * 
+     * @param graphics_2d (Graphics2D) : The specified graphics to render onto. 
+     */
+    public void render(Graphics2D graphics_2d) {
+        long start_nanos = System.nanoTime();
+        scene_renderer.render(graphics_2d);
+        long render_nanos = System.nanoTime() - start_nanos;
+        resolution_controller.update(render_nanos);
+        FrameProfiler.getInstance().record(FrameProfiler.RENDER, render_nanos);
+        // The HUD is drawn over the finished frame, so it's never part of the scene's dirty regions:
+        FrameTimingHUD.getInstance().draw(graphics_2d, scene_renderer);
+    }
 
-                    AffineTransform original_transformation = graphics_2d.getTransform();
-                    double radians = Math.toRadians(comp.getCoordinates().getDegrees());
-                
-                    graphics_2d.setClip(0, 0, Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH, Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT);
-                    graphics_2d.translate(comp.getCoordinates().getX(), comp.getCoordinates().getY());
-                    graphics_2d.rotate(radians);
-                    graphics_2d.translate(-comp.getCoordinates().getX(), -comp.getCoordinates().getY());
-                    graphics_2d.setComposite(AlphaComposite.SrcOver.derive((float)comp.getOpacity()));
-                    graphics_2d.drawImage(comp.getAnimation(), x, y, null);
-                    graphics_2d.setComposite(AlphaComposite.SrcOver.derive(1));
-                    graphics_2d.setTransform(original_transformation);
-                }
-            }
-            catch(ArrayIndexOutOfBoundsException e) {}
-        }
+    /**
+     * @return The SceneRenderer that draws the window's frames, which can be used to configure dirty-rectangle rendering and to read
+     * how many components were culled and drawn during the last frame.
+     */
+    public SceneRenderer getSceneRenderer() {
+        return scene_renderer;
+    }
 
-        repaint();
+    /**
+     * @return The DynamicResolutionController that lowers and raises the internal resolution of the window's frames to hold their render time
+     * near a target.
+     */
+    public DynamicResolutionController getResolutionController() {
+        return resolution_controller;
     }
 
     public static GraphicsRenderer getInstance() {
         return app_graphics;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,161 @@
+package app;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import fundamentals.Constants;
+
+/**
+ * Used to render frames into an offscreen BufferedImage rather than onto a window. Moreover, each frame's render time is recorded, and
+ * frames can be written to a directory as PNG files, so that rendering cost and correctness can be measured on machines that have no display.
+ * 
+ * @see
+ * Note: Frames are rendered from the most recently published RenderSnapshot, exactly as they are on-screen. When rendering several frames,
+ * a Runnable passed in is ran before each frame, such as one that runs a tick, so that every frame shows a new snapshot.
+ * EX: new OffscreenRenderer().setDumpDirectory(new File("frames")).renderFrames(60, headless_runtime::tick);
+ */
+public class OffscreenRenderer
+{
+    private final SceneRenderer scene_renderer;
+    private final BufferedImage frame;
+    private File dump_directory = null;
+    private long[] frame_nanos = new long[64];
+    private int frame_count = 0;
+
+    /**
+     * Used to render frames into an offscreen BufferedImage that is the size of the application's window.
+     */
+    public OffscreenRenderer() {
+        this(Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH, Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT);
+    }
+
+    /**
+     * Used to render frames into an offscreen BufferedImage of the size passed in.
+     * @param width (int) : The specified width of each frame. Unit of measurement: Pixels.
+     * @param height (int) : The specified height of each frame. Unit of measurement: Pixels.
+     */
+    public OffscreenRenderer(int width, int height) {
+        scene_renderer = new SceneRenderer(width, height);
+        // Reading a VolatileImage back onto the heap every frame would cost more than rendering the frame:
+        scene_renderer.setAcceleratedBackBuffer(false);
+        frame = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Used to write every rendered frame as a PNG file into the directory passed in, named by frame number. (EX: "frame_00042.png")
+     * @param dump_directory (File) : The specified directory, which is created if needed, or null to stop writing frames.
+     */
+    public OffscreenRenderer setDumpDirectory(File dump_directory) {
+        this.dump_directory = dump_directory;
+        if(dump_directory != null) {
+            dump_directory.mkdirs();
+        }
+        return this;
+    }
+
+    /**
+     * Renders a single frame from the most recently published RenderSnapshot, and writes it as a PNG file if a dump directory is set.
+     * @return The rendered frame. The same BufferedImage is reused for every frame.
+     */
+    public BufferedImage renderFrame() {
+        long start_nanos = System.nanoTime();
+        Graphics2D graphics_2d = frame.createGraphics();
+        scene_renderer.render(graphics_2d);
+        graphics_2d.dispose();
+        recordFrameNanos(System.nanoTime() - start_nanos);
+
+        if(dump_directory != null) {
+            File file = new File(dump_directory, String.format("frame_%05d.png", frame_count - 1));
+            try {
+                ImageIO.write(frame, "png", file);
+            }
+            catch(IOException e) {
+                System.err.println("OffscreenRenderer.java: Failed to write " + file.getPath() + ": " + e.getMessage());
+            }
+        }
+
+        return frame;
+    }
+
+    /**
+     * Renders several frames, running the Runnable passed in before each frame.
+     * @param frames (int) : The specified amount of frames to render.
+     * @param before_frame (Runnable) : The specified Runnable, such as one that runs a tick, or null to render the same snapshot each frame.
+     */
+    public OffscreenRenderer renderFrames(int frames, Runnable before_frame) {
+        for(int i = 0; i < frames; i++) {
+            if(before_frame != null) {
+                before_frame.run();
+            }
+            renderFrame();
+        }
+        return this;
+    }
+
+    private void recordFrameNanos(long nanos) {
+        if(frame_count == frame_nanos.length) {
+            frame_nanos = Arrays.copyOf(frame_nanos, frame_nanos.length * 2);
+        }
+        frame_nanos[frame_count++] = nanos;
+    }
+
+    /**
+     * @return How long each frame took to render in nanoseconds, in the order the frames were rendered. Writing PNG files is not included.
+     */
+    public long[] getFrameNanos() {
+        return Arrays.copyOf(frame_nanos, frame_count);
+    }
+
+    /**
+     * @return The amount of frames that have been rendered.
+     */
+    public int getFrameCount() {
+        return frame_count;
+    }
+
+    /**
+     * @return The sum of every frame's render time in nanoseconds.
+     */
+    public long getTotalNanos() {
+        long total_nanos = 0;
+        for(int i = 0; i < frame_count; i++) {
+            total_nanos += frame_nanos[i];
+        }
+        return total_nanos;
+    }
+
+    /**
+     * Used to get a percentile of the frames' render times, such as the median or the slowest 1% of frames.
+     * @param pct (double) : The specified percentile as a decimal within the interval: [0, 1]. (EX: 0.99 for the 99th percentile)
+     * @return The render time in nanoseconds, or zero if no frames have been rendered.
+     */
+    public long getPercentileNanos(double pct) {
+        if(frame_count == 0) {
+            return 0;
+        }
+
+        long[] sorted_nanos = getFrameNanos();
+        Arrays.sort(sorted_nanos);
+        int index = (int)Math.ceil(Math.min(Math.max(pct, 0), 1) * frame_count) - 1;
+        return sorted_nanos[Math.max(index, 0)];
+    }
+
+    /**
+     * Forgets every recorded render time, and restarts frame numbering from zero.
+     */
+    public void resetTimings() {
+        frame_count = 0;
+    }
+
+    /**
+     * @return The SceneRenderer that draws the frames, which can be used to configure dirty-rectangle rendering.
+     */
+    public SceneRenderer getSceneRenderer() {
+        return scene_renderer;
+    }
+}
@@ -0,0 +1,527 @@
+package app;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.HashMap;
+import java.util.LinkedList;
+
+import fundamentals.Constants;
+import fundamentals.animation.Animation;
+import fundamentals.animation.CompatibleImages;
+import fundamentals.animation.RotationCache;
+import fundamentals.component.RenderSnapshot;
+import fundamentals.component.RenderSnapshotBuffer;
+
+/**
+ * SceneRenderer is responsible for drawing every active component onto any Graphics2D, such as the graphics of the application's window
+ * or the graphics of an offscreen BufferedImage. Moreover, components are drawn from the most recently published RenderSnapshot rather than
+ * from the components themselves; the tick thread publishes a snapshot of every active component at the end of each tick, so the next tick 
+ * runs while the current frame is being rendered.
+ * 
+ * @see
+ * Note: When Constants.WINDOW_CHARACTERISTICS.DIRTY_RECTANGLE_RENDERING is enabled, frames are rendered into a back buffer that is kept
+ * between frames, and only the regions covered by components that moved, rotated, faded, changed animations, or were removed are redrawn.
+ * The whole back buffer is redrawn once the dirty regions cover more than FULL_REDRAW_DIRTY_AREA_PCT of the scene.
+ *
+ * @see
+ * Note: The scene can be rendered into the back buffer at a lower internal resolution with setRenderScale(double), and then upscaled
+ * onto the graphics with a single draw; see DynamicResolutionController.
+ *
+ * @see
+ * Note: Components whose rotated bounds are entirely outside of the scene are culled every frame; getCulledCount() and getDrawnCount()
+ * report how many components were skipped and drawn during the last frame.
+ * 
+ * @see
+ * Note: When Constants.WINDOW_CHARACTERISTICS.TILE_COMPOSITION is enabled, frames are instead composed in software across several threads
+ * by a TileCompositor.
+ *
+ * @see
+ * Note: Each SceneRenderer keeps its own back buffer and its own record of what it last rendered, so the window and offscreen renderers
+ * each use a separate SceneRenderer.
+ */
+public class SceneRenderer
+{
+    private static final double MIN_RENDER_SCALE = 0.1;
+    private static final Color DEFAULT_BACKGROUND = new Color(238, 238, 238);
+    private static final RenderingHints HIGH_QUALITY_HINTS = new RenderingHints(RenderingHints.KEY_INTERPOLATION, 
+        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    private static final RenderingHints LOW_QUALITY_HINTS = new RenderingHints(RenderingHints.KEY_INTERPOLATION, 
+        RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+
+    static {
+        HIGH_QUALITY_HINTS.put(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        LOW_QUALITY_HINTS.put(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+    }
+
+    /**
+     * The state that a component was last rendered in, which is compared against each new snapshot to find the regions that must be redrawn.
+     */
+    private static class RenderedState {
+        private Animation animation = null;
+        private int x, y, degrees, layer, z_order;
+        private float opacity;
+        private Rectangle bounds = new Rectangle();
+        private long frame = 0;
+
+        private boolean hasChanged(RenderSnapshot snapshot, int index, double alpha) {
+            return animation != snapshot.getAnimation(index) || x != snapshot.getX(index, alpha) || y != snapshot.getY(index, alpha) 
+                || degrees != snapshot.getDegrees(index, alpha) || opacity != snapshot.getOpacity(index) || layer != snapshot.getLayer(index) 
+                || z_order != snapshot.getZOrder(index);
+        }
+
+        private void update(RenderSnapshot snapshot, int index, double alpha, long frame) {
+            animation = snapshot.getAnimation(index);
+            x = snapshot.getX(index, alpha);
+            y = snapshot.getY(index, alpha);
+            degrees = snapshot.getDegrees(index, alpha);
+            opacity = snapshot.getOpacity(index);
+            layer = snapshot.getLayer(index);
+            z_order = snapshot.getZOrder(index);
+            bounds.setBounds(snapshot.getBounds(index));
+            this.frame = frame;
+        }
+    }
+
+    private final Rectangle scene_bounds;
+    private Color background = DEFAULT_BACKGROUND;
+    private boolean accelerated_back_buffer = true;
+    private double render_scale = Math.min(Math.max(Constants.WINDOW_CHARACTERISTICS.INTERNAL_RENDER_SCALE, MIN_RENDER_SCALE), 1);
+    private boolean high_quality = true;
+    private TileCompositor tile_compositor = null;
+    private boolean dirty_rectangles_enabled = Constants.WINDOW_CHARACTERISTICS.DIRTY_RECTANGLE_RENDERING;
+    private double full_redraw_dirty_area_pct = Constants.WINDOW_CHARACTERISTICS.FULL_REDRAW_DIRTY_AREA_PCT;
+    private Image back_buffer = null;
+    private boolean full_redraw = true;
+    private LinkedList<Rectangle> dirty_regions = new LinkedList<Rectangle>();
+    private HashMap<Double, RenderedState> rendered_states = new HashMap<Double, RenderedState>();
+    private long rendered_frame = 0;
+    private double alpha = 1;
+    private int[] visible_indices = new int[0];
+    private volatile int active_component_count = 0;
+    private volatile int culled_count = 0;
+    private volatile int drawn_count = 0;
+
+    /**
+     * Used to render every active component from the most recently published RenderSnapshot onto any Graphics2D, such as a window's graphics
+     * or an offscreen BufferedImage's graphics.
+     * 
+     * @param width (int) : The specified width of the scene. Unit of measurement: Pixels.
+     * @param height (int) : The specified height of the scene. Unit of measurement: Pixels.
+     */
+    public SceneRenderer(int width, int height) {
+        scene_bounds = new Rectangle(0, 0, width, height);
+        setTileCompositionEnabled(Constants.WINDOW_CHARACTERISTICS.TILE_COMPOSITION);
+    }
+
+    /**
+     * Used to render a cleared background along with every active component onto the graphics passed in, with the scene's upper-left corner
+     * at the graphics' origin.
+     * 
+     * @param graphics_2d (Graphics2D) : The specified graphics to render onto. 
+     * @see Components are rendered from the most recently published RenderSnapshot, rather than from the components themselves.
+     */
+    public synchronized void render(Graphics2D graphics_2d) {
+        RenderSnapshot snapshot = RenderSnapshotBuffer.getInstance().acquire();
+        // Components are drawn between the previous tick and the snapshot's tick, depending on how long ago the snapshot was captured:
+        alpha = snapshot.getInterpolationAlpha(System.nanoTime());
+        // Visibility pass; components that are entirely outside of the window are culled before their images are ever resolved:
+        int visible_count = 0;
+        if(visible_indices.length < snapshot.getSize()) {
+            visible_indices = new int[snapshot.getSize()];
+        }
+        for(int i = 0; i < snapshot.getSize(); i++) {
+            if(snapshot.getBounds(i).intersects(scene_bounds)) {
+                visible_indices[visible_count++] = i;
+            }
+        }
+        active_component_count = snapshot.getSize();
+        culled_count = snapshot.getSize() - visible_count;
+        int drawn_count = 0;
+
+        if(tile_compositor != null) {
+            graphics_2d.drawImage(tile_compositor.compose(snapshot, visible_indices, visible_count, alpha, background), 0, 0, null);
+            this.drawn_count = tile_compositor.getDrawnCount();
+            return;
+        }
+
+        if(!dirty_rectangles_enabled && render_scale == 1) {
+            RenderingHints original_hints = graphics_2d.getRenderingHints();
+            graphics_2d.addRenderingHints(high_quality ? HIGH_QUALITY_HINTS : LOW_QUALITY_HINTS);
+            drawn_count = renderRegion(graphics_2d, scene_bounds, snapshot, visible_count);
+            graphics_2d.setRenderingHints(original_hints);
+            this.drawn_count = drawn_count;
+            return;
+        }
+
+        Graphics2D back_buffer_graphics = createBackBufferGraphics();
+        back_buffer_graphics.addRenderingHints(high_quality ? HIGH_QUALITY_HINTS : LOW_QUALITY_HINTS);
+        // The back buffer is drawn onto in the scene's coordinates, regardless of the internal resolution:
+        back_buffer_graphics.scale((double)back_buffer.getWidth(null) / scene_bounds.width, (double)back_buffer.getHeight(null) / scene_bounds.height);
+        if(dirty_rectangles_enabled) {
+            collectDirtyRegions(snapshot);
+        }
+        else {
+            full_redraw = true;
+        }
+        if(full_redraw || getArea(dirty_regions) > full_redraw_dirty_area_pct * scene_bounds.width * scene_bounds.height) {
+            drawn_count = renderRegion(back_buffer_graphics, scene_bounds, snapshot, visible_count);
+        }
+        else {
+            for(var region : dirty_regions) {
+                drawn_count += renderRegion(back_buffer_graphics, region, snapshot, visible_count);
+            }
+        }
+        back_buffer_graphics.dispose();
+        this.drawn_count = drawn_count;
+        dirty_regions.clear();
+        full_redraw = false;
+
+        if(render_scale == 1) {
+            graphics_2d.drawImage(back_buffer, 0, 0, null);
+        }
+        else {
+            // The back buffer is upscaled onto the graphics in a single draw:
+            Object original_interpolation = graphics_2d.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+            graphics_2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, high_quality ? RenderingHints.VALUE_INTERPOLATION_BILINEAR 
+                : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            graphics_2d.drawImage(back_buffer, 0, 0, scene_bounds.width, scene_bounds.height, null);
+            if(original_interpolation != null) {
+                graphics_2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, original_interpolation);
+            }
+        }
+        if(back_buffer instanceof VolatileImage && ((VolatileImage)back_buffer).contentsLost()) {
+            full_redraw = true;
+        }
+    }
+
+    /**
+     * @return Graphics for the back buffer, which is created or restored first if needed; a lost back buffer requires a full redraw.
+     */
+    private Graphics2D createBackBufferGraphics() {
+        GraphicsConfiguration graphics_configuration = accelerated_back_buffer ? CompatibleImages.getGraphicsConfiguration() : null;
+        int width = Math.max((int)Math.round(scene_bounds.width * render_scale), 1);
+        int height = Math.max((int)Math.round(scene_bounds.height * render_scale), 1);
+        if(back_buffer == null || (graphics_configuration == null) == (back_buffer instanceof VolatileImage)) {
+            back_buffer = (graphics_configuration != null) ? graphics_configuration.createCompatibleVolatileImage(width, height, 
+                Transparency.OPAQUE) : CompatibleImages.createImage(width, height);
+            full_redraw = true;
+        }
+
+        if(back_buffer instanceof VolatileImage) {
+            VolatileImage volatile_back_buffer = (VolatileImage)back_buffer;
+            int status = volatile_back_buffer.validate(graphics_configuration);
+            if(status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                volatile_back_buffer.flush();
+                back_buffer = graphics_configuration.createCompatibleVolatileImage(width, height, Transparency.OPAQUE);
+            }
+            if(status != VolatileImage.IMAGE_OK) {
+                full_redraw = true;
+            }
+            return ((VolatileImage)back_buffer).createGraphics();
+        }
+
+        return ((BufferedImage)back_buffer).createGraphics();
+    }
+
+    /**
+     * Compares every component within the snapshot against the state it was last rendered in, and adds the previous and current bounds of
+     * every changed component, along with the bounds of every component that is no longer within the snapshot, to the dirty regions. Overlapping
+     * regions are then merged together. A component has changed if it moved, rotated, faded, changed animations, layers, or z-orders, or is animated.
+     */
+    private void collectDirtyRegions(RenderSnapshot snapshot) {
+        rendered_frame++;
+        for(int i = 0; i < snapshot.getSize(); i++) {
+            RenderedState state = rendered_states.get(snapshot.getComponentID(i));
+            if(state == null) {
+                state = new RenderedState();
+                rendered_states.put(snapshot.getComponentID(i), state);
+                dirty_regions.addLast(snapshot.getBounds(i));
+            }
+            else if(state.hasChanged(snapshot, i, alpha) || snapshot.getAnimation(i).isAnimated()) {
+                dirty_regions.addLast(new Rectangle(state.bounds));
+                dirty_regions.addLast(snapshot.getBounds(i));
+            }
+            state.update(snapshot, i, alpha, rendered_frame);
+        }
+
+        for(var iterator = rendered_states.values().iterator(); iterator.hasNext();) {
+            RenderedState state = iterator.next();
+            if(state.frame != rendered_frame) {
+                dirty_regions.addLast(state.bounds);
+                iterator.remove();
+            }
+        }
+
+        // Clip every region to the window and union any regions that overlap until no two regions overlap:
+        LinkedList<Rectangle> merged_regions = new LinkedList<Rectangle>();
+        // At a lower internal resolution, a region's edges fall between the back buffer's pixels, so each region is grown by a pixel of the back buffer:
+        int margin = (render_scale < 1) ? (int)Math.ceil(1 / render_scale) : 0;
+        for(var region : dirty_regions) {
+            Rectangle merged_region = new Rectangle(region.x - margin, region.y - margin, region.width + 2 * margin, region.height + 2 * margin)
+                .intersection(scene_bounds);
+            if(merged_region.isEmpty()) {
+                continue;
+            }
+
+            boolean merging = true;
+            while(merging) {
+                merging = false;
+                for(var iterator = merged_regions.iterator(); iterator.hasNext();) {
+                    Rectangle merged = iterator.next();
+                    if(merged.intersects(merged_region)) {
+                        merged_region = merged_region.union(merged);
+                        iterator.remove();
+                        merging = true;
+                    }
+                }
+            }
+            merged_regions.addLast(merged_region);
+        }
+
+        dirty_regions = merged_regions;
+    }
+
+    private static long getArea(LinkedList<Rectangle> regions) {
+        long area = 0;
+        for(var region : regions) {
+            area += (long)region.width * region.height;
+        }
+        return area;
+    }
+
+    /**
+     * Clears the region passed in and redraws every visible component that overlaps it, in draw order. Moreover, the composite is only
+     * changed when a component's opacity differs from the previous component's, so consecutive components with the same opacity are drawn
+     * as one batch.
+     * 
+     * @param visible_count (int) : The amount of visible components within the snapshot.
+     * @return The amount of components that were drawn.
+     */
+    private int renderRegion(Graphics2D graphics_2d, Rectangle region, RenderSnapshot snapshot, int visible_count) {
+        int drawn_count = 0;
+        float current_opacity = 1;
+        graphics_2d.setClip(region);
+        graphics_2d.setComposite(AlphaComposite.SrcOver);
+        // Render cleared backround before rendering:
+        graphics_2d.setColor(background);
+        graphics_2d.fillRect(region.x, region.y, region.width, region.height);
+        // Iterate through the visible components and render them:
+        for(int i = 0; i < visible_count; i++) {
+            int index = visible_indices[i];
+            if(snapshot.getBounds(index).intersects(region)) {
+                float opacity = snapshot.getOpacity(index);
+                if(opacity != current_opacity) {
+                    graphics_2d.setComposite((opacity == 1) ? AlphaComposite.SrcOver : AlphaComposite.SrcOver.derive(opacity));
+                    current_opacity = opacity;
+                }
+
+                renderComponent(graphics_2d, snapshot, index, alpha, accelerated_back_buffer);
+                drawn_count++;
+            }
+        }
+
+        graphics_2d.setComposite(AlphaComposite.SrcOver);
+        return drawn_count;
+    }
+
+    /**
+     * Draws the component at the index of the snapshot passed in with the cheapest path available: unrotated components are drawn directly, 
+     * rotated components use a pre-rotated copy when one is cached, and only the remaining components are drawn through a rotated transformation.
+     * 
+     * @param alpha (double) : The specified interpolation factor between the previous tick and the snapshot's tick.
+     * @param accelerated (boolean) : Whether or not images may be drawn through their AcceleratedImage; heap-only targets should draw
+     * the images themselves, since reading a VolatileImage back onto the heap is slow.
+     */
+    static void renderComponent(Graphics2D graphics_2d, RenderSnapshot snapshot, int index, double alpha, boolean accelerated) {
+        Animation animation = snapshot.getAnimation(index);
+        int center_x = snapshot.getX(index, alpha);
+        int center_y = snapshot.getY(index, alpha);
+        int degrees = snapshot.getDegrees(index, alpha);
+        int x = center_x - (snapshot.getWidth(index) / 2);
+        int y = center_y - (snapshot.getHeight(index) / 2);
+        if(degrees % 360 == 0) {
+            drawAnimation(graphics_2d, animation, x, y, accelerated);
+            return;
+        }
+
+        Image rotated_animation = RotationCache.getInstance().getRotatedImage(animation, degrees);
+        if(rotated_animation != null) {
+            // Pre-rotated copies are centered on the component's coordinates, so they're drawn without a transformation:
+            graphics_2d.drawImage(rotated_animation, center_x - (rotated_animation.getWidth(null) / 2), 
+                center_y - (rotated_animation.getHeight(null) / 2), null);
+        }
+        else {
+            AffineTransform original_transformation = graphics_2d.getTransform();
+            graphics_2d.rotate(Math.toRadians(degrees), center_x, center_y);
+            drawAnimation(graphics_2d, animation, x, y, accelerated);
+            graphics_2d.setTransform(original_transformation);
+        }
+    }
+
+    private static void drawAnimation(Graphics2D graphics_2d, Animation animation, int x, int y, boolean accelerated) {
+        if(accelerated) {
+            animation.draw(graphics_2d, x, y);
+        }
+        else {
+            graphics_2d.drawImage(animation.getAnimation(), x, y, null);
+        }
+    }
+
+    /**
+     * Used to enable or disable dirty-rectangle rendering. When disabled, every frame is fully redrawn straight onto the graphics
+     * that the frame is rendered onto.
+     * 
+     * @param enabled (boolean) : Whether or not only dirty regions should be redrawn.
+     */
+    public synchronized void setDirtyRectanglesEnabled(boolean enabled) {
+        dirty_rectangles_enabled = enabled;
+        full_redraw = true;
+    }
+
+    /**
+     * Used to set how much of the window the dirty regions may cover before the whole frame is redrawn instead.
+     * @param pct (double) : The percentage of the window's area that is represented as a decimal within the interval: [0, 1].
+     */
+    public synchronized void setFullRedrawDirtyAreaPct(double pct) {
+        full_redraw_dirty_area_pct = Math.min(Math.max(pct, 0), 1);
+    }
+
+    /**
+     * Requests the whole frame to be redrawn next frame, rather than only the dirty regions.
+     */
+    public synchronized void requestFullRedraw() {
+        full_redraw = true;
+    }
+
+    /**
+     * @return The amount of active components within the snapshot that the last frame was rendered from.
+     */
+    public int getActiveComponentCount() {
+        return active_component_count;
+    }
+
+    /**
+     * @return The amount of registered components that were skipped during the last frame because they were entirely outside of the window.
+     */
+    public int getCulledCount() {
+        return culled_count;
+    }
+
+    /**
+     * @return The amount of component draws during the last frame. A component that overlaps several dirty regions is drawn once per region,
+     * and components that did not overlap any dirty region were not drawn at all.
+     */
+    public int getDrawnCount() {
+        return drawn_count;
+    }
+
+    /**
+     * Used to enable or disable tile composition, where every frame is composed in software by a TileCompositor across several threads and
+     * then drawn onto the graphics with a single draw. Dirty-rectangle rendering is not used while tile composition is enabled.
+     * 
+     * @param enabled (boolean) : Whether or not frames should be composed by a TileCompositor.
+     */
+    public synchronized void setTileCompositionEnabled(boolean enabled) {
+        if(enabled && tile_compositor == null) {
+            tile_compositor = new TileCompositor(scene_bounds.width, scene_bounds.height);
+        }
+        else if(!enabled && tile_compositor != null) {
+            tile_compositor.shutdown();
+            tile_compositor = null;
+            full_redraw = true;
+        }
+    }
+
+    /**
+     * @return The TileCompositor that composes frames, which can be used to set its tile size and parallelism, or null if tile composition 
+     * is disabled.
+     */
+    public synchronized TileCompositor getTileCompositor() {
+        return tile_compositor;
+    }
+
+    /**
+     * Used to set the internal resolution that the scene is rendered at, relative to the scene's size. Moreover, a scene that is rendered at
+     * a lower resolution requires fewer pixels to be drawn, and is upscaled onto the graphics with a single draw.
+     * 
+     * @param render_scale (double) : The specified scale within the interval: [0.1, 1].
+     * @see The internal resolution does not apply to tile composition, which always composes frames at the scene's full resolution.
+     */
+    public synchronized void setRenderScale(double render_scale) {
+        render_scale = Math.min(Math.max(render_scale, MIN_RENDER_SCALE), 1);
+        if(render_scale != this.render_scale) {
+            this.render_scale = render_scale;
+            back_buffer = null;
+        }
+    }
+
+    /**
+     * @return The internal resolution that the scene is rendered at, relative to the scene's size.
+     */
+    public synchronized double getRenderScale() {
+        return render_scale;
+    }
+
+    /**
+     * Used to set whether images are drawn with bilinear interpolation and quality rendering hints, or with nearest-neighbor interpolation and
+     * speed rendering hints. This affects rotated images, and the upscale when the scene is rendered at a lower internal resolution.
+     * 
+     * @param high_quality (boolean) : Whether or not the quality hints should be used.
+     */
+    public synchronized void setHighQuality(boolean high_quality) {
+        if(high_quality != this.high_quality) {
+            this.high_quality = high_quality;
+            full_redraw = true;
+        }
+    }
+
+    /**
+     * @return Whether or not images are drawn with bilinear interpolation and quality rendering hints.
+     */
+    public synchronized boolean isHighQuality() {
+        return high_quality;
+    }
+
+    /**
+     * Used to set the color that the scene is cleared to before components are drawn.
+     * @param background (Color) : The specified color.
+     */
+    public synchronized void setBackground(Color background) {
+        this.background = background;
+        full_redraw = true;
+    }
+
+    /**
+     * @return The color that the scene is cleared to before components are drawn.
+     */
+    public synchronized Color getBackground() {
+        return background;
+    }
+
+    /**
+     * Used to allow or prevent the back buffer from being a VolatileImage. Moreover, a VolatileImage back buffer is fastest to draw onto a
+     * window, but reading it back into a BufferedImage is slow, so offscreen rendering keeps its back buffer on the heap instead.
+     *
+     * @param accelerated (boolean) : Whether or not the back buffer may be a VolatileImage when there is a screen.
+     */
+    public synchronized void setAcceleratedBackBuffer(boolean accelerated) {
+        accelerated_back_buffer = accelerated;
+        back_buffer = null;
+    }
+
+    /**
+     * @return The width of the scene. Unit of measurement: Pixels.
+     */
+    public int getWidth() {
+        return scene_bounds.width;
+    }
+
+    /**
+     * @return The height of the scene. Unit of measurement: Pixels.
+     */
+    public int getHeight() {
+        return scene_bounds.height;
+    }
+}
@@ -0,0 +1,222 @@
+package app;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import fundamentals.Constants;
+import fundamentals.component.RenderSnapshot;
+
+/**
+ * Used to compose frames in software across several threads. Moreover, the frame is split into square tiles, every visible component is
+ * binned into each tile that its bounds overlap, and then the tiles are rendered in parallel on a ForkJoinPool; each tile only draws the
+ * components within its bin, clipped to its own slice of the frame. The finished frame can then be drawn onto the screen with a single draw.
+ *
+ * @see
+ * Note: The frame is a BufferedImage backed by an int[], and each tile draws through a sub-image that shares the frame's pixels, so tiles never
+ * write to the same pixels. Components within each tile are drawn in draw order, so overlapping components look the same as they do when
+ * drawn on a single thread.
+ *
+ * @see
+ * Note: Tile composition is most useful with thousands of components; with only a few components the cost of binning and of drawing the whole
+ * frame onto the screen outweighs the parallelism.
+ */
+public class TileCompositor
+{
+    private final int width;
+    private final int height;
+    private final BufferedImage frame;
+    private int tile_size = 0;
+    private int tile_columns = 0;
+    private int tile_rows = 0;
+    private BufferedImage[] tile_images = null;
+    private int[][] tile_bins = null;
+    private int[] tile_bin_sizes = null;
+    private ForkJoinPool pool = null;
+    private final AtomicInteger drawn_count = new AtomicInteger(0);
+
+    private RenderSnapshot snapshot = null;
+    private double alpha = 1;
+    private Color background = Color.BLACK;
+
+    /**
+     * Renders a range of tiles, splitting the range in half until a single tile is left so that idle threads can steal the other half.
+     */
+    @SuppressWarnings("serial")
+    private class TileTask extends RecursiveAction {
+        private final int first_tile;
+        private final int last_tile;
+
+        private TileTask(int first_tile, int last_tile) {
+            this.first_tile = first_tile;
+            this.last_tile = last_tile;
+        }
+
+        @Override
+        protected void compute() {
+            if(first_tile == last_tile) {
+                renderTile(first_tile);
+                return;
+            }
+
+            int middle_tile = (first_tile + last_tile) >>> 1;
+            invokeAll(new TileTask(first_tile, middle_tile), new TileTask(middle_tile + 1, last_tile));
+        }
+    }
+
+    /**
+     * Used to compose frames in software across several threads.
+     * @param width (int) : The specified width of each frame. Unit of measurement: Pixels.
+     * @param height (int) : The specified height of each frame. Unit of measurement: Pixels.
+     */
+    public TileCompositor(int width, int height) {
+        this.width = width;
+        this.height = height;
+        frame = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        setTileSize(Constants.WINDOW_CHARACTERISTICS.TILE_SIZE);
+        setParallelism(Constants.WINDOW_CHARACTERISTICS.TILE_PARALLELISM);
+    }
+
+    /**
+     * Composes a frame from every visible component within the snapshot passed in.
+     * 
+     * @param visible_indices (int[]) : The specified indices of the snapshot's visible components, in draw order.
+     * @param visible_count (int) : The specified amount of visible components.
+     * @param alpha (double) : The specified interpolation factor between the previous tick and the snapshot's tick.
+     * @param background (Color) : The specified color that each tile is cleared to.
+     * @return The composed frame. The same BufferedImage is reused for every frame.
+     */
+    public synchronized BufferedImage compose(RenderSnapshot snapshot, int[] visible_indices, int visible_count, double alpha, Color background) {
+        this.snapshot = snapshot;
+        this.alpha = alpha;
+        this.background = background;
+        drawn_count.set(0);
+        Arrays.fill(tile_bin_sizes, 0);
+
+        for(int i = 0; i < visible_count; i++) {
+            Rectangle bounds = snapshot.getBounds(visible_indices[i]);
+            if(bounds.x >= width || bounds.y >= height || bounds.x + bounds.width <= 0 || bounds.y + bounds.height <= 0) {
+                continue;
+            }
+            int first_column = Math.max(bounds.x, 0) / tile_size;
+            int last_column = Math.min(bounds.x + bounds.width - 1, width - 1) / tile_size;
+            int first_row = Math.max(bounds.y, 0) / tile_size;
+            int last_row = Math.min(bounds.y + bounds.height - 1, height - 1) / tile_size;
+            for(int row = first_row; row <= last_row; row++) {
+                for(int column = first_column; column <= last_column; column++) {
+                    addToBin(row * tile_columns + column, visible_indices[i]);
+                }
+            }
+        }
+
+        pool.invoke(new TileTask(0, tile_images.length - 1));
+        this.snapshot = null;
+        return frame;
+    }
+
+    private void addToBin(int tile, int index) {
+        if(tile_bin_sizes[tile] == tile_bins[tile].length) {
+            tile_bins[tile] = Arrays.copyOf(tile_bins[tile], Math.max(tile_bins[tile].length * 2, 16));
+        }
+        tile_bins[tile][tile_bin_sizes[tile]++] = index;
+    }
+
+    private void renderTile(int tile) {
+        BufferedImage tile_image = tile_images[tile];
+        Graphics2D graphics_2d = tile_image.createGraphics();
+        graphics_2d.setColor(background);
+        graphics_2d.fillRect(0, 0, tile_image.getWidth(), tile_image.getHeight());
+        // Each tile draws in the frame's coordinates, clipped to its own slice of the frame:
+        graphics_2d.translate(-(tile % tile_columns) * tile_size, -(tile / tile_columns) * tile_size);
+
+        float current_opacity = 1;
+        for(int i = 0; i < tile_bin_sizes[tile]; i++) {
+            int index = tile_bins[tile][i];
+            float opacity = snapshot.getOpacity(index);
+            if(opacity != current_opacity) {
+                graphics_2d.setComposite((opacity == 1) ? AlphaComposite.SrcOver : AlphaComposite.SrcOver.derive(opacity));
+                current_opacity = opacity;
+            }
+
+            SceneRenderer.renderComponent(graphics_2d, snapshot, index, alpha, false);
+        }
+
+        graphics_2d.dispose();
+        drawn_count.addAndGet(tile_bin_sizes[tile]);
+    }
+
+    /**
+     * Used to set the size of each tile. Smaller tiles balance work across threads more evenly, while larger tiles draw components that
+     * overlap several tiles fewer times.
+     * 
+     * @param tile_size (int) : The specified width and height of each tile. Unit of measurement: Pixels.
+     */
+    public synchronized void setTileSize(int tile_size) {
+        this.tile_size = Math.max(tile_size, 16);
+        tile_columns = (width + this.tile_size - 1) / this.tile_size;
+        tile_rows = (height + this.tile_size - 1) / this.tile_size;
+        tile_images = new BufferedImage[tile_columns * tile_rows];
+        tile_bins = new int[tile_images.length][16];
+        tile_bin_sizes = new int[tile_images.length];
+        for(int row = 0; row < tile_rows; row++) {
+            for(int column = 0; column < tile_columns; column++) {
+                int x = column * this.tile_size;
+                int y = row * this.tile_size;
+                // Sub-images share the frame's pixels:
+                tile_images[row * tile_columns + column] = frame.getSubimage(x, y, Math.min(this.tile_size, width - x), Math.min(this.tile_size, height - y));
+            }
+        }
+    }
+
+    /**
+     * @return The width and height of each tile. Unit of measurement: Pixels.
+     */
+    public synchronized int getTileSize() {
+        return tile_size;
+    }
+
+    /**
+     * Used to set how many threads tiles are rendered on.
+     * @param parallelism (int) : The specified positive amount of threads.
+     */
+    public synchronized void setParallelism(int parallelism) {
+        if(pool != null) {
+            pool.shutdown();
+        }
+        // The pool index isn't assigned until a thread registers with the pool, so threads are numbered as they're created instead:
+        AtomicInteger thread_count = new AtomicInteger();
+        pool = new ForkJoinPool(Math.max(parallelism, 1), (fork_join_pool) -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(fork_join_pool);
+            thread.setName("TileCompositor-" + thread_count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Shuts down the threads that tiles are rendered on once they are idle. The TileCompositor must not be used afterwards.
+     */
+    public synchronized void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * @return How many threads tiles are rendered on.
+     */
+    public synchronized int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * @return The amount of component draws during the last frame. A component that overlaps several tiles is drawn once per tile.
+     */
+    public int getDrawnCount() {
+        return drawn_count.get();
+    }
+}
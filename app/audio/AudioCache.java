@@ -0,0 +1,108 @@
+package app.audio;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+import fundamentals.Constants;
+
+/**
+ * A shared, thread-safe cache of decoded WAV audio files keyed by file name. Moreover, AudioFile retrieves the decoded audio of its
+ * file from the AudioCache, so that an audio file is only read and decoded once rather than every time it is played.
+ *
+ * @see
+ * Note: AudioCache will only function appropriately if the audio file in question is a WAV file type, and if it is
+ * located within the "assets/audio/" root directory; in the "audio" folder.
+ */
+public class AudioCache
+{
+    private ConcurrentHashMap<String, AudioData> audio = new ConcurrentHashMap<String, AudioData>();
+    private static AudioCache audio_cache = new AudioCache();
+
+    /**
+     * A data structure holding the decoded audio of a WAV file along with the format of the decoded audio.
+     */
+    protected static final class AudioData {
+        private final AudioFormat format;
+        private final byte[] data;
+
+        private AudioData(AudioFormat format, byte[] data) {
+            this.format = format;
+            this.data = data;
+        }
+
+        protected AudioFormat getFormat() {
+            return format;
+        }
+
+        protected byte[] getData() {
+            return data;
+        }
+    }
+
+    /**
+     * Used to get the decoded audio of the WAV file passed in. If the audio is not already cached, then it will be decoded and cached.
+     *
+     * @param file_name (String) : The specified WAV file.
+     * @return The decoded audio, or null if the audio file could not be decoded.
+     */
+    protected AudioData getAudioData(String file_name) {
+        AudioData audio_data = audio.get(file_name);
+        if(audio_data == null) {
+            audio_data = decodeAudioFile(file_name);
+            if(audio_data != null) {
+                audio.putIfAbsent(file_name, audio_data);
+            }
+        }
+
+        return audio_data;
+    }
+
+    /**
+     * Used to decode and cache the WAV file passed in ahead of time so that it is ready to be played.
+     *
+     * @param file_name (String) : The specified WAV file.
+     * @return Whether or not the audio file was decoded and cached.
+     */
+    public boolean preload(String file_name) {
+        return getAudioData(file_name) != null;
+    }
+
+    /**
+     * @param file_name (String) : The specified WAV file.
+     * @return Whether or not the audio file has already been decoded and cached.
+     */
+    public boolean contains(String file_name) {
+        return audio.containsKey(file_name);
+    }
+
+    /**
+     * Removes every decoded audio file from the cache.
+     */
+    public void clear() {
+        audio.clear();
+    }
+
+    private AudioData decodeAudioFile(String file_name) {
+        try(AudioInputStream audio_input_stream = AudioSystem.getAudioInputStream(new File(Constants.FILE_ROOT_DIRECTORIES.AUDIO_ROOT_DIRECTORY + file_name))) {
+            return new AudioData(audio_input_stream.getFormat(), audio_input_stream.readAllBytes());
+        }
+        catch(UnsupportedAudioFileException e) {
+            System.err.println("AudioCache.java: Caught exeception! Audio file type is not a recognizable type!");
+        }
+        catch(IOException e) {
+            System.err.println("AudioCache.java: Caught exeception! Could not find the requested audio file!");
+        }
+
+        return null;
+    }
+
+    public static AudioCache getInstance() {
+        return audio_cache;
+    }
+}
@@ -1,16 +1,9 @@
 package app.audio;
 
-import java.io.File;
-import java.io.IOException;
-
-import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.Clip;
 import javax.sound.sampled.DataLine;
 import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-
-import fundamentals.Constants;
 
 /**
  * Used as a data structure, AudioFile takes in a audio file name upon instantiation in order to make use of the Clip class. Moreover, 
@@ -23,7 +16,6 @@ import fundamentals.Constants;
  */
 public class AudioFile 
 {
-    private AudioInputStream audio_input_stream = null;
     private Clip audio_clip = null; 
     private String file_name = "";
 
@@ -39,21 +31,21 @@ public class AudioFile
     protected AudioFile(String file_name) {
         try {   
             this.file_name = file_name;
-            audio_input_stream = AudioSystem.getAudioInputStream(new File(Constants.FILE_ROOT_DIRECTORIES.AUDIO_ROOT_DIRECTORY + file_name));
-            audio_clip = (Clip)AudioSystem.getLine(new DataLine.Info(Clip.class, audio_input_stream.getFormat()));
-        
-            audio_clip.open(audio_input_stream); 
-        }
-        catch(UnsupportedAudioFileException e) {
-            System.err.println("AudioFile.java: Caught exeception! Audio file type is not a recognizable type!");
-        }
-        catch(IOException e) {
-            System.err.println("AudioFile.java: Caught exeception! Could not find the requested audio file!");
+            // The audio is only decoded once, and is shared with every other AudioFile of the same file through the AudioCache.
+            AudioCache.AudioData audio_data = AudioCache.getInstance().getAudioData(file_name);
+            if(audio_data == null) {
+                return;
+            }
+
+            audio_clip = (Clip)AudioSystem.getLine(new DataLine.Info(Clip.class, audio_data.getFormat()));
+            audio_clip.open(audio_data.getFormat(), audio_data.getData(), 0, audio_data.getData().length); 
         }
         catch(LineUnavailableException e) {
             System.err.println("AudioFile.java: Caught LineUnavailableException! ");
         }
-        catch(NullPointerException e) {} 
+        catch(IllegalArgumentException e) {
+            System.err.println("AudioFile.java: Caught exeception! Audio format is not supported by any line!");
+        }
     }
 
     @Override
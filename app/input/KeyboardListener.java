@@ -3,6 +3,9 @@ package app.input;
 import java.awt.event.*;
 import java.util.LinkedList;
 
+import app.FrameTimingHUD;
+import fundamentals.Constants;
+
 /**
  * KeyboardListener is responsible for logging all keyboard keys experiencing a key-pressed or key-released event 
  * by implementing KeyListener. Moreover, this allows the application to know this state of every key on the keyboard.
@@ -22,6 +25,10 @@ public class KeyboardListener implements KeyListener
         }
 
         if(!pressed_key_ids.contains(e.getKeyCode())) {
+            // The HUD is only toggled when its key is first pressed, rather than while the key is held down:
+            if(e.getKeyCode() == Constants.WINDOW_CHARACTERISTICS.HUD_TOGGLE_KEY) {
+                FrameTimingHUD.getInstance().toggleVisible();
+            }
             pressed_key_ids.addLast(e.getKeyCode());  
         }
     }
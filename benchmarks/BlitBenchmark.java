@@ -0,0 +1,90 @@
+package benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Toolkit;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import fundamentals.Constants;
+import fundamentals.animation.AcceleratedImage;
+import fundamentals.animation.CompatibleImages;
+
+/**
+ * Used to compare how quickly a sprite can be drawn onto a window-sized surface when the sprite is left in the pixel format that the
+ * decoder produced, when it has been converted to the screen's pixel format, and when it may be promoted to a VolatileImage.
+ *
+ * @see
+ * Note: Run with the name of an image within the "assets/images/" root directory, and optionally the amount of draws per pass.
+ * EX: java benchmarks.BlitBenchmark ball.png 200000
+ */
+public class BlitBenchmark
+{
+    private static final int WARMUP_PASSES = 3;
+    private static final int MEASURED_PASSES = 5;
+
+    private interface Blit {
+        public void draw(Graphics2D graphics_2d, int x, int y);
+    }
+
+    public static void main(String[] args) throws IOException {
+        String file_name = (args.length > 0) ? args[0] : "ball.png";
+        int draws = (args.length > 1) ? Integer.parseInt(args[1]) : 100000;
+
+        BufferedImage decoded_image = ImageIO.read(new File(Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + file_name));
+        BufferedImage compatible_image = CompatibleImages.toCompatible(decoded_image);
+        AcceleratedImage accelerated_image = new AcceleratedImage(compatible_image);
+
+        Image target = createTarget();
+        System.out.println("Target: " + target.getClass().getSimpleName() + ", sprite: " + file_name + " (decoded type " + decoded_image.getType()
+            + ", compatible type " + compatible_image.getType() + "), " + draws + " draws per pass");
+
+        measure("Decoded", target, draws, (graphics_2d, x, y) -> graphics_2d.drawImage(decoded_image, x, y, null));
+        measure("Compatible", target, draws, (graphics_2d, x, y) -> graphics_2d.drawImage(compatible_image, x, y, null));
+        measure("Accelerated", target, draws, (graphics_2d, x, y) -> accelerated_image.draw(graphics_2d, x, y));
+        System.out.println("Accelerated image promoted to a VolatileImage: " + accelerated_image.isPromoted());
+    }
+
+    private static Image createTarget() {
+        GraphicsConfiguration graphics_configuration = CompatibleImages.getGraphicsConfiguration();
+        if(graphics_configuration != null) {
+            return graphics_configuration.createCompatibleVolatileImage(Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH,
+                Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT, Transparency.OPAQUE);
+        }
+
+        return CompatibleImages.createImage(Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH, Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT);
+    }
+
+    private static void measure(String name, Image target, int draws, Blit blit) {
+        double best_draws_per_second = 0;
+        for(int pass = 0; pass < WARMUP_PASSES + MEASURED_PASSES; pass++) {
+            Graphics2D graphics_2d = (target instanceof VolatileImage) ? ((VolatileImage)target).createGraphics() : ((BufferedImage)target).createGraphics();
+            long start_nanos = System.nanoTime();
+            for(int i = 0; i < draws; i++) {
+                blit.draw(graphics_2d, (i * 37) % Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH, (i * 53) % Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT);
+            }
+            // Wait for any queued drawing to reach the target before stopping the timer:
+            syncToolkit();
+            long elapsed_nanos = System.nanoTime() - start_nanos;
+            graphics_2d.dispose();
+
+            if(pass >= WARMUP_PASSES) {
+                best_draws_per_second = Math.max(best_draws_per_second, draws / (elapsed_nanos / 1e9));
+            }
+        }
+
+        System.out.printf("%-12s %,14.0f draws/s%n", name, best_draws_per_second);
+    }
+
+    private static void syncToolkit() {
+        if(CompatibleImages.getGraphicsConfiguration() != null) {
+            Toolkit.getDefaultToolkit().sync();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import app.SceneRenderer;
+import app.TileCompositor;
+import fundamentals.Constants;
+import fundamentals.animation.Animation;
+import fundamentals.component.ComponentBase;
+import fundamentals.component.RenderSnapshotBuffer;
+
+/**
+ * Used to compare how quickly a window-sized frame can be composed on a single thread with SceneRenderer, and across several threads 
+ * with TileCompositor, as the amount of components scales up. Components are placed at random coordinates and rotations.
+ *
+ * @see
+ * Note: Run with the name of an image within the "assets/images/" root directory, and optionally the tile size.
+ * EX: java benchmarks.TileCompositionBenchmark ball.png 128
+ */
+public class TileCompositionBenchmark
+{
+    private static final int[] COMPONENT_COUNTS = {500, 2000, 8000, 20000};
+    private static final int WARMUP_FRAMES = 5;
+    private static final int MEASURED_FRAMES = 20;
+
+    private static class Sprite extends ComponentBase {
+        private Sprite(String file_name, int x, int y, int degrees) {
+            addRequirements(x, y, degrees, new Animation(file_name));
+        }
+    }
+
+    private interface Composition {
+        public void compose(BufferedImage target);
+    }
+
+    public static void main(String[] args) {
+        String file_name = (args.length > 0) ? args[0] : "ball.png";
+        int tile_size = (args.length > 1) ? Integer.parseInt(args[1]) : Constants.WINDOW_CHARACTERISTICS.TILE_SIZE;
+        int width = Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH;
+        int height = Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT;
+        int processors = Runtime.getRuntime().availableProcessors();
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+        SceneRenderer scene_renderer = new SceneRenderer(width, height);
+        scene_renderer.setTileCompositionEnabled(false);
+        scene_renderer.setDirtyRectanglesEnabled(false);
+        scene_renderer.setAcceleratedBackBuffer(false);
+        TileCompositor tile_compositor = new TileCompositor(width, height);
+        tile_compositor.setTileSize(tile_size);
+        System.out.println("Sprite: " + file_name + ", " + width + "x" + height + " frame, " + tile_size + "px tiles, " + processors + " processors");
+
+        Random random = new Random(0);
+        Sprite[] sprites = new Sprite[COMPONENT_COUNTS[COMPONENT_COUNTS.length - 1]];
+        for(int i = 0; i < sprites.length; i++) {
+            sprites[i] = new Sprite(file_name, random.nextInt(width), random.nextInt(height), random.nextInt(4) * 45);
+            sprites[i].toggleActivity(false);
+        }
+
+        int active_count = 0;
+        for(int component_count : COMPONENT_COUNTS) {
+            for(; active_count < component_count; active_count++) {
+                sprites[active_count].toggleActivity(true);
+            }
+            RenderSnapshotBuffer.getInstance().publish();
+
+            System.out.printf("%,7d components:", component_count);
+            measure("single thread", target, (frame) -> {
+                Graphics2D graphics_2d = frame.createGraphics();
+                scene_renderer.render(graphics_2d);
+                graphics_2d.dispose();
+            });
+
+            // Every power of two below the amount of processors, and then the amount of processors itself:
+            for(int parallelism = 1; parallelism < processors * 2; parallelism = (parallelism * 2 >= processors) ? processors * 2 : parallelism * 2) {
+                int threads = Math.min(parallelism, processors);
+                tile_compositor.setParallelism(threads);
+                measure(threads + " threads", target, (frame) -> compose(tile_compositor, frame));
+            }
+            System.out.println();
+        }
+
+        System.exit(0);
+    }
+
+    private static void compose(TileCompositor tile_compositor, BufferedImage target) {
+        var snapshot = RenderSnapshotBuffer.getInstance().acquire();
+        int[] visible_indices = new int[snapshot.getSize()];
+        for(int i = 0; i < visible_indices.length; i++) {
+            visible_indices[i] = i;
+        }
+
+        Graphics2D graphics_2d = target.createGraphics();
+        graphics_2d.drawImage(tile_compositor.compose(snapshot, visible_indices, visible_indices.length, 1, Color.BLACK), 0, 0, null);
+        graphics_2d.dispose();
+    }
+
+    private static void measure(String name, BufferedImage target, Composition composition) {
+        long best_nanos = Long.MAX_VALUE;
+        for(int frame = 0; frame < WARMUP_FRAMES + MEASURED_FRAMES; frame++) {
+            long start_nanos = System.nanoTime();
+            composition.compose(target);
+            long elapsed_nanos = System.nanoTime() - start_nanos;
+            if(frame >= WARMUP_FRAMES) {
+                best_nanos = Math.min(best_nanos, elapsed_nanos);
+            }
+        }
+
+        System.out.printf("  %s %.2f ms", name, best_nanos / 1e6);
+    }
+}
@@ -1,5 +1,7 @@
 package fundamentals;
 
+import java.awt.event.KeyEvent;
+
 /**
  * All global constants defined in specific sub-classes that were statically declared and defined. 
  */
@@ -12,6 +14,27 @@ public class Constants
     {
         public static final String IMAGE_ROOT_DIRECTORY = "assets/images/";
         public static final String AUDIO_ROOT_DIRECTORY = "assets/audio/";
+        public static final String CACHE_ROOT_DIRECTORY = "cache/";
+    }
+
+    /*
+     * Characteristics for how assets are loaded and kept in memory.
+     */
+    public static final class ASSET_CHARACTERISTICS
+    {
+        public static final long IMAGE_CACHE_BUDGET_BYTES = 64L * 1024 * 1024;
+        public static final String ASSET_MANIFEST_FILE = ".manifest";
+        public static final int PRELOAD_THREADS = Math.max(Runtime.getRuntime().availableProcessors() - 1, 1);
+        public static final boolean ATLAS_ENABLED = true;
+        public static final int ATLAS_SHEET_SIZE = 2048;
+        public static final int ATLAS_MAX_REGION_SIZE = 512;
+        public static final boolean VOLATILE_PROMOTION_ENABLED = true;
+        public static final int VOLATILE_PROMOTION_DRAW_COUNT = 120;
+        public static final boolean ROTATION_CACHE_ENABLED = true;
+        public static final int ROTATION_CACHE_STEP_DEGREES = 1;
+        public static final long ROTATION_CACHE_BUDGET_BYTES = 32L * 1024 * 1024;
+        public static final boolean PIXEL_CACHE_ENABLED = true;
+        public static final String PIXEL_CACHE_FILE = "pixels.cache";
     }
 
     /*
@@ -24,6 +47,26 @@ public class Constants
         public static final int WINDOW_WIDTH = 1154;
         public static final int WINDOW_HEIGHT = 595;
         public static final int REFRESH_RATE_MILLIS = 5;
+        public static final boolean FIXED_TIMESTEP_LOOP = true;
+        public static final int MAX_CATCH_UP_TICKS = 5;
+        public static final long SPIN_WAIT_NANOS = 1000000;
         public static final double GRAPHICS_TRANSFORMATION_SCALER = 1.25;
+        public static final boolean ACTIVE_RENDERING = true;
+        public static final int TARGET_FRAME_RATE = 0;
+        public static final boolean DIRTY_RECTANGLE_RENDERING = true;
+        public static final double FULL_REDRAW_DIRTY_AREA_PCT = 0.5;
+        public static final boolean TILE_COMPOSITION = false;
+        public static final int TILE_SIZE = 128;
+        public static final int TILE_PARALLELISM = Runtime.getRuntime().availableProcessors();
+        public static final double INTERNAL_RENDER_SCALE = 1;
+        public static final boolean DYNAMIC_RESOLUTION_SCALING = true;
+        public static final double MIN_DYNAMIC_RENDER_SCALE = 0.5;
+        public static final double TARGET_RENDER_MILLIS = 8;
+        public static final int HUD_TOGGLE_KEY = KeyEvent.VK_F3;
+        public static final int PROFILER_WINDOW_SIZE = 240;
+        public static final int HUD_REFRESH_MILLIS = 250;
+        public static final boolean PARALLEL_MECHANICS = false;
+        public static final int MECHANIC_PARALLELISM = Runtime.getRuntime().availableProcessors();
+        public static final int PARALLEL_MECHANICS_MIN_BATCH = 32;
     }
 }
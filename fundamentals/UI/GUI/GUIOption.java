@@ -4,6 +4,7 @@ import java.util.LinkedList;
 import java.util.function.Function;
 
 import fundamentals.animation.Animation;
+import fundamentals.animation.ImageCache;
 import fundamentals.component.ComponentBase;
 import fundamentals.mechanic.MechanicBase;
 
@@ -144,6 +145,8 @@ public class GUIOption extends ComponentBase
     private LinkedList<Animation> getAnimations(String[] file_names) {
         LinkedList<Animation> animations = new LinkedList<Animation>();
         for(int i = 0; i < file_names.length; i++) {
+            // Options cycle through their images whenever they are updated, so keep every image resident:
+            ImageCache.getInstance().pin(file_names[i]);
             animations.addLast(new Animation(file_names[i]));
         }
 
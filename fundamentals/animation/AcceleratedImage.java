@@ -0,0 +1,149 @@
+package fundamentals.animation;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+import fundamentals.Constants;
+
+/**
+ * Used to draw an image that may be promoted to a VolatileImage once it has been drawn frequently. Moreover, a VolatileImage lives
+ * in video memory, so drawing it onto the screen does not require its pixels to be copied from the heap every time it is drawn.
+ *
+ * @see
+ * Note: The contents of a VolatileImage can be lost at any moment, such as when the display mode changes. Lost contents are restored from
+ * the original image before it's drawn again, and the original image is always drawn instead whenever there is no screen.
+ *
+ * @see
+ * Note: Promotion can be disabled at any time with setPromotionEnabled(boolean), in which case the original image is always drawn; it is
+ * still a managed image that Java2D may cache in video memory by itself.
+ */
+public class AcceleratedImage
+{
+    private static volatile boolean promotion_enabled = Constants.ASSET_CHARACTERISTICS.VOLATILE_PROMOTION_ENABLED;
+
+    private final BufferedImage image;
+    private VolatileImage volatile_image = null;
+    private int draw_count = 0;
+
+    /**
+     * Used to draw an image that may be promoted to a VolatileImage once it has been drawn frequently.
+     * @param image (BufferedImage) : The specified image, which should already be in the screen's pixel format.
+     */
+    public AcceleratedImage(BufferedImage image) {
+        this.image = image;
+    }
+
+    /**
+     * Draws the image with its upper-left corner at the coordinates passed in.
+     */
+    public void draw(Graphics2D graphics_2d, int x, int y) {
+        Image source = getSource();
+        graphics_2d.drawImage(source, x, y, null);
+        recoverContents(graphics_2d, source, x, y, 0, 0, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * Draws a region of the image with the region's upper-left corner at the coordinates passed in.
+     *
+     * @param source_x (int) : The specified x coordinate of the region's upper-left corner within the image.
+     * @param source_y (int) : The specified y coordinate of the region's upper-left corner within the image.
+     * @param width (int) : The specified width of the region. Unit of measurement: Pixels.
+     * @param height (int) : The specified height of the region. Unit of measurement: Pixels.
+     */
+    public void draw(Graphics2D graphics_2d, int x, int y, int source_x, int source_y, int width, int height) {
+        Image source = getSource();
+        graphics_2d.drawImage(source, x, y, x + width, y + height, source_x, source_y, source_x + width, source_y + height, null);
+        recoverContents(graphics_2d, source, x, y, source_x, source_y, width, height);
+    }
+
+    /**
+     * If the VolatileImage lost its contents while it was being drawn, then the original image is drawn in its place.
+     */
+    private void recoverContents(Graphics2D graphics_2d, Image source, int x, int y, int source_x, int source_y, int width, int height) {
+        if(source == volatile_image && volatile_image.contentsLost()) {
+            graphics_2d.drawImage(image, x, y, x + width, y + height, source_x, source_y, source_x + width, source_y + height, null);
+        }
+    }
+
+    /**
+     * @return The image that should be drawn; either the VolatileImage once promoted, or the original image.
+     */
+    private synchronized Image getSource() {
+        GraphicsConfiguration graphics_configuration = CompatibleImages.getGraphicsConfiguration();
+        if(!promotion_enabled || graphics_configuration == null) {
+            releaseVolatileImage();
+            return image;
+        }
+        else if(volatile_image == null && ++draw_count < Constants.ASSET_CHARACTERISTICS.VOLATILE_PROMOTION_DRAW_COUNT) {
+            return image;
+        }
+
+        if(volatile_image == null) {
+            volatile_image = graphics_configuration.createCompatibleVolatileImage(image.getWidth(), image.getHeight(), Transparency.TRANSLUCENT);
+            restoreContents();
+        }
+
+        int status = volatile_image.validate(graphics_configuration);
+        if(status == VolatileImage.IMAGE_INCOMPATIBLE) {
+            volatile_image.flush();
+            volatile_image = graphics_configuration.createCompatibleVolatileImage(image.getWidth(), image.getHeight(), Transparency.TRANSLUCENT);
+            restoreContents();
+        }
+        else if(status == VolatileImage.IMAGE_RESTORED) {
+            restoreContents();
+        }
+
+        return volatile_image;
+    }
+
+    private void restoreContents() {
+        Graphics2D graphics_2d = volatile_image.createGraphics();
+        graphics_2d.setComposite(AlphaComposite.Src);
+        graphics_2d.drawImage(image, 0, 0, null);
+        graphics_2d.dispose();
+    }
+
+    private void releaseVolatileImage() {
+        if(volatile_image != null) {
+            volatile_image.flush();
+            volatile_image = null;
+            draw_count = 0;
+        }
+    }
+
+    /**
+     * @return The original image.
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * @return Whether or not the image has been promoted to a VolatileImage.
+     */
+    public synchronized boolean isPromoted() {
+        return volatile_image != null;
+    }
+
+    /**
+     * Used to allow or prevent images from being promoted to VolatileImages. Images that are already promoted are released the next time they're drawn
+     * once promotion is disabled.
+     *
+     * @param enabled (boolean) : Whether or not images may be promoted.
+     */
+    public static void setPromotionEnabled(boolean enabled) {
+        promotion_enabled = enabled;
+    }
+
+    /**
+     * @return Whether or not images may be promoted to VolatileImages.
+     */
+    public static boolean isPromotionEnabled() {
+        return promotion_enabled;
+    }
+}
@@ -1,24 +1,26 @@
 package fundamentals.animation;
 
-import javax.imageio.ImageIO;
-import javax.swing.ImageIcon;
-
-import fundamentals.Constants;
-
-import java.awt.image.*;
-import java.io.File;
-import java.io.IOException;
 import java.awt.*;
 
+import fundamentals.appbase.AppBase;
+
 /**
  *  Used to return Image, ImageIcon, and BufferedImage instances along with the dimensions of an image. 
  * 
  * @see
  * Note: Can only utilize PNG and GIF file types. 
+ * 
+ * @see
+ * Note: Animated GIFs and sprite-strip PNGs are decoded once into a shared FrameSequence, and the frame that is shown is chosen
+ * from AppBase.getMillis().
  */
 public class Animation 
 {
     private String file_name = "";
+    private int frame_count = 0;
+    private int frame_millis = 0;
+    private FrameSequence frame_sequence = null;
+    private boolean resolved_frame_sequence = false;
 
     /**
      * Used to return Image, ImageIcon, and BufferedImage instances along with the dimensions of an image. 
@@ -35,29 +37,82 @@ public class Animation
     }
 
     /**
-     * @return A Image instance created from the image file specified in the constructor. 
+     * Used to return Image, ImageIcon, and BufferedImage instances of a sprite-strip along with the dimensions of each of its frames.
+     * 
+     * @param file_name
+     * - The name of the image file. The String must include the file type.        
+     *  EX: "myStrip.png"
+     * @param frame_count (int) : The amount of equally wide frames within the image, placed side by side from left to right.
+     * @param frame_millis (int) : How long each frame is shown for in milliseconds.
      */
-    public Image getAnimation() {
-       return new ImageIcon(getClass().getResource("/" + Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + file_name)).getImage();
+    public Animation(String file_name, int frame_count, int frame_millis) {
+        this.file_name = file_name;
+        this.frame_count = Math.max(frame_count, 1);
+        this.frame_millis = Math.max(frame_millis, 1);
     }
 
     /**
-     * @return A ImageIcon instance created from the image file specified in the constructor. 
+     * @return The shared frames of the image if it's animated, or null if the image only has a single frame.
      */
-    private ImageIcon getImageIcon() {    
-        return new ImageIcon(Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + file_name);
+    public FrameSequence getFrameSequence() {
+        if(!resolved_frame_sequence) {
+            AssetManifest.Entry entry = AssetManifest.getInstance().getEntry(file_name);
+            if(frame_count > 1) {
+                frame_sequence = FrameSequence.getSpriteStrip(file_name, frame_count, frame_millis);
+            }
+            else if(entry != null && entry.getFrameCount() > 1 && entry.getFormat().equals("gif")) {
+                frame_sequence = FrameSequence.getGIF(file_name);
+            }
+
+            resolved_frame_sequence = true;
+        }
+
+        return frame_sequence;
     }
 
     /**
-     * @return A BufferedImage instance created from the image file specified in the constructor. 
+     * @return Whether or not the image has more than a single frame.
      */
-    private BufferedImage getBufferedImage() {
-        try {
-            return ImageIO.read(new File(Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + file_name));
+    public boolean isAnimated() {
+        return getFrameSequence() != null;
+    }
+
+    /**
+     * @return A Image instance created from the image file specified in the constructor. 
+     * @see The image is only decoded once, and is shared with every other Animation of the same file through the ImageCache.
+     */
+    public Image getAnimation() {
+       FrameSequence frame_sequence = getFrameSequence();
+       if(frame_sequence != null) {
+           return frame_sequence.getFrame(AppBase.getMillis());
+       }
+
+       TextureAtlas.Region region = TextureAtlas.getInstance().getRegion(file_name);
+       return (region != null) ? region.getImage() : ImageCache.getInstance().getImage(file_name);
+    }
+
+    /**
+     * Draws the image specified in the constructor with its upper-left corner at the coordinates passed in. If the image has been
+     * packed into the TextureAtlas, then its region of the shared sheet is drawn.
+     *
+     * @param graphics_2d (Graphics2D) : The specified graphics to draw onto.
+     * @param x (int) : The specified x coordinate of the image's upper-left corner.
+     * @param y (int) : The specified y coordinate of the image's upper-left corner.
+     */
+    public void draw(Graphics2D graphics_2d, int x, int y) {
+        FrameSequence frame_sequence = getFrameSequence();
+        TextureAtlas.Region region = (frame_sequence == null) ? TextureAtlas.getInstance().getRegion(file_name) : null;
+        if(frame_sequence != null) {
+            graphics_2d.drawImage(frame_sequence.getFrame(AppBase.getMillis()), x, y, null);
+        }
+        else if(region != null) {
+            region.draw(graphics_2d, x, y);
         }
-        catch(IOException e) {
-            System.err.println("Animation.java: IOExeception caught!");
-            return null;
+        else {
+            AcceleratedImage image = ImageCache.getInstance().getAcceleratedImage(file_name);
+            if(image != null) {
+                image.draw(graphics_2d, x, y);
+            }
         }
     }
 
@@ -66,16 +121,21 @@ public class Animation
      * 
      * @see
      * Note: Unit of measurement: Pixels.
+     * 
+     * @see
+     * Note: The width is taken from the AssetManifest, so the image file is not read again.
      */
     public int getImageWidth() {
-        if(file_name.contains(".png")) {
-            return getBufferedImage().getWidth();  
+        AssetManifest.Entry entry = AssetManifest.getInstance().getEntry(file_name);
+        if(frame_count > 1 && entry != null) {
+            return entry.getWidth() / frame_count;
         }
-        else if(file_name.contains(".gif")) {
-            return getImageIcon().getIconWidth();
+        else if(entry != null) {
+            return entry.getWidth();
         }
 
-        return 0;
+        Image image = getAnimation();
+        return (image != null) ? Math.max(image.getWidth(null), 0) : 0;
     }
 
     /**
@@ -83,16 +143,18 @@ public class Animation
      * 
      * @see
      * Note: Unit of measurement: Pixels.
+     * 
+     * @see
+     * Note: The height is taken from the AssetManifest, so the image file is not read again.
      */
     public int getImageHeight() {
-        if(file_name.contains(".png")) {
-            return getBufferedImage().getHeight();  
-        }
-        else if(file_name.contains(".gif")) {
-            return getImageIcon().getIconHeight();
+        AssetManifest.Entry entry = AssetManifest.getInstance().getEntry(file_name);
+        if(entry != null) {
+            return entry.getHeight();
         }
 
-        return 0;
+        Image image = getAnimation();
+        return (image != null) ? Math.max(image.getHeight(null), 0) : 0;
     }
 
     /**
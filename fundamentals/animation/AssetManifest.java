@@ -0,0 +1,238 @@
+package fundamentals.animation;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import fundamentals.Constants;
+
+/**
+ * A manifest of every image file located within the "assets/images/" root directory. The manifest is built once at startup by scanning
+ * the root directory, and it records the width, height, format, amount of frames, and size in bytes of each image. Moreover, this allows
+ * the dimensions of any image to be known without reading or decoding the image file every time the dimensions are needed.
+ *
+ * @see
+ * Note: The manifest is saved to a generated index file within the root directory. Upon the next startup, only the image files that
+ * have been added or modified since the index file was generated are read again.
+ *
+ * @see
+ * Note: Only the header of an image file is read when building the manifest; images are not decoded.
+ */
+public class AssetManifest
+{
+    private static final String FIELD_SEPARATOR = "\t";
+    private static AssetManifest asset_manifest = new AssetManifest();
+
+    private volatile HashMap<String, Entry> entries = new HashMap<String, Entry>();
+
+    /**
+     * A data structure that describes a single image file within the manifest.
+     */
+    public static final class Entry {
+        private final String file_name;
+        private final int width;
+        private final int height;
+        private final String format;
+        private final int frame_count;
+        private final long byte_size;
+        private final long last_modified;
+
+        private Entry(String file_name, int width, int height, String format, int frame_count, long byte_size, long last_modified) {
+            this.file_name = file_name;
+            this.width = width;
+            this.height = height;
+            this.format = format;
+            this.frame_count = frame_count;
+            this.byte_size = byte_size;
+            this.last_modified = last_modified;
+        }
+
+        /**
+         * @return The image file's name relative to the root directory; file type included. EX: "myImage.png"
+         */
+        public String getFileName() {
+            return file_name;
+        }
+
+        /**
+         * @return The width of the image. Unit of measurement: Pixels.
+         */
+        public int getWidth() {
+            return width;
+        }
+
+        /**
+         * @return The height of the image. Unit of measurement: Pixels.
+         */
+        public int getHeight() {
+            return height;
+        }
+
+        /**
+         * @return The name of the image's format. EX: "png"
+         */
+        public String getFormat() {
+            return format;
+        }
+
+        /**
+         * @return The amount of frames in the image; PNGs will have one frame, where GIFs can have many.
+         */
+        public int getFrameCount() {
+            return frame_count;
+        }
+
+        /**
+         * @return The size of the image file. Unit of measurement: Bytes.
+         */
+        public long getByteSize() {
+            return byte_size;
+        }
+
+        private boolean isStale(File file) {
+            return file.length() != byte_size || file.lastModified() != last_modified;
+        }
+    }
+
+    private AssetManifest() {
+        build();
+    }
+
+    /**
+     * Builds the manifest by scanning the root directory. Image files already described by the index file are only read again if
+     * they have been modified, and the index file is then regenerated.
+     */
+    public synchronized void build() {
+        HashMap<String, Entry> indexed_entries = readIndex();
+        HashMap<String, Entry> scanned_entries = new HashMap<String, Entry>();
+        scanDirectory(new File(Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY), "", indexed_entries, scanned_entries);
+
+        boolean changed = scanned_entries.size() != indexed_entries.size();
+        Iterator<Entry> iterator = scanned_entries.values().iterator();
+        while(!changed && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            changed = indexed_entries.get(entry.file_name) != entry;
+        }
+
+        entries = scanned_entries;
+        if(changed) {
+            writeIndex(scanned_entries);
+        }
+    }
+
+    private void scanDirectory(File directory, String prefix, HashMap<String, Entry> indexed_entries, HashMap<String, Entry> scanned_entries) {
+        File[] files = directory.listFiles();
+        if(files == null) {
+            return;
+        }
+
+        for(var file : files) {
+            String file_name = prefix + file.getName();
+            if(file.isDirectory()) {
+                scanDirectory(file, file_name + "/", indexed_entries, scanned_entries);
+                continue;
+            }
+
+            Entry entry = indexed_entries.get(file_name);
+            if(entry != null && !entry.isStale(file)) {
+                // Reuse the same instance so that build() can tell that nothing changed.
+                scanned_entries.put(file_name, entry);
+            }
+            else if((entry = readEntry(file, file_name)) != null) {
+                scanned_entries.put(file_name, entry);
+            }
+        }
+    }
+
+    private Entry readEntry(File file, String file_name) {
+        try(ImageInputStream stream = ImageIO.createImageInputStream(file)) {
+            Iterator<ImageReader> readers = (stream != null) ? ImageIO.getImageReaders(stream) : null;
+            if(readers == null || !readers.hasNext()) {
+                // Not an image file, such as the index file itself.
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, false);
+                return new Entry(file_name, reader.getWidth(0), reader.getHeight(0), reader.getFormatName().toLowerCase(),
+                    Math.max(reader.getNumImages(true), 1), file.length(), file.lastModified());
+            }
+            finally {
+                reader.dispose();
+            }
+        }
+        catch(IOException e) {
+            System.err.println("AssetManifest.java: IOException caught while reading " + file_name + "!");
+            return null;
+        }
+    }
+
+    private HashMap<String, Entry> readIndex() {
+        HashMap<String, Entry> indexed_entries = new HashMap<String, Entry>();
+        File index_file = new File(Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + Constants.ASSET_CHARACTERISTICS.ASSET_MANIFEST_FILE);
+        if(!index_file.isFile()) {
+            return indexed_entries;
+        }
+
+        try(BufferedReader reader = new BufferedReader(new FileReader(index_file))) {
+            String line = null;
+            while((line = reader.readLine()) != null) {
+                String[] fields = line.split(FIELD_SEPARATOR);
+                if(fields.length == 7) {
+                    indexed_entries.put(fields[0], new Entry(fields[0], Integer.parseInt(fields[1]), Integer.parseInt(fields[2]), fields[3],
+                        Integer.parseInt(fields[4]), Long.parseLong(fields[5]), Long.parseLong(fields[6])));
+                }
+            }
+        }
+        catch(IOException | NumberFormatException e) {
+            System.err.println("AssetManifest.java: Could not read the index file! The manifest will be rebuilt.");
+            indexed_entries.clear();
+        }
+
+        return indexed_entries;
+    }
+
+    private void writeIndex(HashMap<String, Entry> entries) {
+        File index_file = new File(Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + Constants.ASSET_CHARACTERISTICS.ASSET_MANIFEST_FILE);
+        try(BufferedWriter writer = new BufferedWriter(new FileWriter(index_file))) {
+            for(var entry : entries.values()) {
+                writer.write(entry.file_name + FIELD_SEPARATOR + entry.width + FIELD_SEPARATOR + entry.height + FIELD_SEPARATOR
+                    + entry.format + FIELD_SEPARATOR + entry.frame_count + FIELD_SEPARATOR + entry.byte_size + FIELD_SEPARATOR
+                    + entry.last_modified);
+                writer.newLine();
+            }
+        }
+        catch(IOException e) {
+            System.err.println("AssetManifest.java: Could not write the index file!");
+        }
+    }
+
+    /**
+     * @param file_name (String) : The name of the image file; file type included. EX: "myImage.png"
+     * @return The manifest's entry for the image file, or null if the image file is not within the manifest.
+     */
+    public Entry getEntry(String file_name) {
+        return entries.get(file_name);
+    }
+
+    /**
+     * @return Every entry within the manifest.
+     */
+    public Iterable<Entry> getEntries() {
+        return entries.values();
+    }
+
+    public static AssetManifest getInstance() {
+        return asset_manifest;
+    }
+}
@@ -0,0 +1,85 @@
+package fundamentals.animation;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Used to convert images into the pixel format of the screen's GraphicsConfiguration. Moreover, images decoded from image files arrive in
+ * whatever pixel format the decoder produced, and drawing an image whose format does not match the screen's format forces Java2D to
+ * convert every pixel each time the image is drawn. Converting every image once when it is loaded allows it to be drawn with a plain copy.
+ *
+ * @see
+ * Note: When there is no screen, such as when running headless, images are converted to premultiplied ARGB, which is the fastest format
+ * to blend onto other images in software.
+ */
+public class CompatibleImages
+{
+    private static final GraphicsConfiguration graphics_configuration = findGraphicsConfiguration();
+
+    private static GraphicsConfiguration findGraphicsConfiguration() {
+        if(GraphicsEnvironment.isHeadless()) {
+            return null;
+        }
+
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+    }
+
+    /**
+     * @return The screen's GraphicsConfiguration, or null if there is no screen.
+     */
+    public static GraphicsConfiguration getGraphicsConfiguration() {
+        return graphics_configuration;
+    }
+
+    /**
+     * Used to create an empty, fully transparent image in the screen's pixel format.
+     * @param width (int) : The specified width of the image. Unit of measurement: Pixels.
+     * @param height (int) : The specified height of the image. Unit of measurement: Pixels.
+     * @return The created image.
+     */
+    public static BufferedImage createImage(int width, int height) {
+        width = Math.max(width, 1);
+        height = Math.max(height, 1);
+        if(graphics_configuration != null) {
+            return graphics_configuration.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    /**
+     * Used to convert the image passed in into the screen's pixel format. If the image is already in the screen's pixel format,
+     * then the image itself is returned.
+     *
+     * @param image (Image) : The specified image to convert.
+     * @return The converted image, or null if the image passed in is null.
+     */
+    public static BufferedImage toCompatible(Image image) {
+        if(image == null) {
+            return null;
+        }
+        else if(image instanceof BufferedImage && isCompatible((BufferedImage)image)) {
+            return (BufferedImage)image;
+        }
+
+        BufferedImage compatible_image = createImage(image.getWidth(null), image.getHeight(null));
+        Graphics2D graphics_2d = compatible_image.createGraphics();
+        graphics_2d.setComposite(AlphaComposite.Src);
+        graphics_2d.drawImage(image, 0, 0, null);
+        graphics_2d.dispose();
+        return compatible_image;
+    }
+
+    private static boolean isCompatible(BufferedImage image) {
+        if(graphics_configuration != null) {
+            return image.getColorModel().equals(graphics_configuration.getColorModel(Transparency.TRANSLUCENT));
+        }
+
+        return image.getType() == BufferedImage.TYPE_INT_ARGB_PRE;
+    }
+}
@@ -0,0 +1,265 @@
+package fundamentals.animation;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.w3c.dom.Node;
+
+import fundamentals.Constants;
+
+/**
+ * The decoded frames of an animated image, along with how long each frame is shown for. Moreover, GIFs and sprite-strip PNGs are
+ * decoded only once into a FrameSequence that is shared by every Animation of the same file, and the frame that is shown is chosen
+ * from the engine's clock rather than from a separate animator thread. This allows any amount of animated components to share a
+ * single decoded copy of their frames while advancing together.
+ *
+ * @see
+ * Note: A sprite-strip PNG is a single image made up of equally wide frames placed side by side, from left to right.
+ *
+ * @see
+ * Note: GIF frames are composited with their disposal methods when decoded, so every frame is a complete image.
+ */
+public class FrameSequence
+{
+    private static final String GIF_METADATA_FORMAT = "javax_imageio_gif_image_1.0";
+    private static final String GIF_STREAM_METADATA_FORMAT = "javax_imageio_gif_stream_1.0";
+    private static ConcurrentHashMap<String, FrameSequence> frame_sequences = new ConcurrentHashMap<String, FrameSequence>();
+
+    private final BufferedImage[] frames;
+    // The time at which each frame ends, relative to the start of the sequence:
+    private final long[] frame_end_millis;
+    private final long total_millis;
+
+    private FrameSequence(BufferedImage[] frames, int[] frame_millis) {
+        this.frames = frames;
+        this.frame_end_millis = new long[frames.length];
+        long elapsed_millis = 0;
+        for(int i = 0; i < frames.length; i++) {
+            elapsed_millis += Math.max(frame_millis[i], 1);
+            frame_end_millis[i] = elapsed_millis;
+        }
+
+        this.total_millis = elapsed_millis;
+    }
+
+    /**
+     * Used to get the shared frames of the GIF passed in. The GIF is decoded the first time it is requested.
+     *
+     * @param file_name (String) : The name of the GIF file; file type included. EX: "myAnimation.gif"
+     * @return The frames of the GIF, or null if the GIF could not be decoded.
+     */
+    public static FrameSequence getGIF(String file_name) {
+        FrameSequence frame_sequence = frame_sequences.get(file_name);
+        if(frame_sequence == null && (frame_sequence = decodeGIF(file_name)) != null) {
+            frame_sequence = putIfAbsent(file_name, frame_sequence);
+        }
+
+        return frame_sequence;
+    }
+
+    /**
+     * Used to get the shared frames of the sprite-strip passed in. The sprite-strip is split into frames the first time it is requested.
+     *
+     * @param file_name (String) : The name of the image file; file type included. EX: "myStrip.png"
+     * @param frame_count (int) : The amount of equally wide frames within the image, from left to right.
+     * @param frame_millis (int) : How long each frame is shown for in milliseconds.
+     * @return The frames of the sprite-strip, or null if the image could not be found.
+     */
+    public static FrameSequence getSpriteStrip(String file_name, int frame_count, int frame_millis) {
+        String key = file_name + "#" + frame_count + "@" + frame_millis;
+        FrameSequence frame_sequence = frame_sequences.get(key);
+        if(frame_sequence == null && (frame_sequence = splitSpriteStrip(file_name, frame_count, frame_millis)) != null) {
+            frame_sequence = putIfAbsent(key, frame_sequence);
+        }
+
+        return frame_sequence;
+    }
+
+    private static FrameSequence putIfAbsent(String key, FrameSequence frame_sequence) {
+        FrameSequence existing_frame_sequence = frame_sequences.putIfAbsent(key, frame_sequence);
+        return (existing_frame_sequence != null) ? existing_frame_sequence : frame_sequence;
+    }
+
+    private static FrameSequence splitSpriteStrip(String file_name, int frame_count, int frame_millis) {
+        BufferedImage strip = CompatibleImages.toCompatible(new Animation(file_name).getAnimation());
+        if(strip == null || frame_count < 1) {
+            return null;
+        }
+
+        int frame_width = strip.getWidth() / frame_count;
+        BufferedImage[] frames = new BufferedImage[frame_count];
+        int[] durations = new int[frame_count];
+        for(int i = 0; i < frame_count; i++) {
+            // Sub-images share their pixels with the strip rather than copying them.
+            frames[i] = strip.getSubimage(i * frame_width, 0, frame_width, strip.getHeight());
+            durations[i] = frame_millis;
+        }
+
+        return new FrameSequence(frames, durations);
+    }
+
+    private static FrameSequence decodeGIF(String file_name) {
+        try(ImageInputStream stream = ImageIO.createImageInputStream(new File(Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + file_name))) {
+            Iterator<ImageReader> readers = (stream != null) ? ImageIO.getImageReadersByFormatName("gif") : null;
+            if(readers == null || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, false);
+                int frame_count = reader.getNumImages(true);
+                if(frame_count < 1) {
+                    return null;
+                }
+
+                // Frames are placed onto the GIF's logical screen, which may be larger than the first frame:
+                Node screen = getChild(reader.getStreamMetadata().getAsTree(GIF_STREAM_METADATA_FORMAT), "LogicalScreenDescriptor");
+                int width = Math.max(getIntAttribute(screen, "logicalScreenWidth", 0), reader.getWidth(0));
+                int height = Math.max(getIntAttribute(screen, "logicalScreenHeight", 0), reader.getHeight(0));
+
+                ArrayList<BufferedImage> frames = new ArrayList<BufferedImage>(frame_count);
+                int[] durations = new int[frame_count];
+                BufferedImage canvas = CompatibleImages.createImage(width, height);
+                for(int i = 0; i < frame_count; i++) {
+                    BufferedImage frame = reader.read(i);
+                    Node metadata = reader.getImageMetadata(i).getAsTree(GIF_METADATA_FORMAT);
+                    Node descriptor = getChild(metadata, "ImageDescriptor");
+                    Node control = getChild(metadata, "GraphicControlExtension");
+                    int frame_x = getIntAttribute(descriptor, "imageLeftPosition", 0);
+                    int frame_y = getIntAttribute(descriptor, "imageTopPosition", 0);
+                    String disposal = (control != null) ? getAttribute(control, "disposalMethod", "none") : "none";
+                    // GIF delays are in hundredths of a second, and a delay of zero is conventionally shown as 100 milliseconds:
+                    int delay_millis = getIntAttribute(control, "delayTime", 0) * 10;
+                    durations[i] = (delay_millis > 0) ? delay_millis : 100;
+
+                    BufferedImage previous_canvas = disposal.equals("restoreToPrevious") ? copy(canvas) : null;
+                    Graphics2D graphics_2d = canvas.createGraphics();
+                    graphics_2d.drawImage(frame, frame_x, frame_y, null);
+                    graphics_2d.dispose();
+                    frames.add(copy(canvas));
+
+                    if(disposal.equals("restoreToBackgroundColor")) {
+                        graphics_2d = canvas.createGraphics();
+                        graphics_2d.setComposite(AlphaComposite.Clear);
+                        graphics_2d.fillRect(frame_x, frame_y, frame.getWidth(), frame.getHeight());
+                        graphics_2d.dispose();
+                    }
+                    else if(previous_canvas != null) {
+                        canvas = previous_canvas;
+                    }
+                }
+
+                return new FrameSequence(frames.toArray(new BufferedImage[frames.size()]), durations);
+            }
+            finally {
+                reader.dispose();
+            }
+        }
+        catch(IOException e) {
+            System.err.println("FrameSequence.java: IOException caught while decoding " + file_name + "!");
+            return null;
+        }
+    }
+
+    private static Node getChild(Node node, String name) {
+        for(Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if(child.getNodeName().equals(name)) {
+                return child;
+            }
+        }
+
+        return null;
+    }
+
+    private static String getAttribute(Node node, String name, String default_value) {
+        Node attribute = (node != null) ? node.getAttributes().getNamedItem(name) : null;
+        return (attribute != null) ? attribute.getNodeValue() : default_value;
+    }
+
+    private static int getIntAttribute(Node node, String name, int default_value) {
+        try {
+            return Integer.parseInt(getAttribute(node, name, Integer.toString(default_value)));
+        }
+        catch(NumberFormatException e) {
+            return default_value;
+        }
+    }
+
+    private static BufferedImage copy(BufferedImage image) {
+        BufferedImage copy = CompatibleImages.createImage(image.getWidth(), image.getHeight());
+        Graphics2D graphics_2d = copy.createGraphics();
+        graphics_2d.setComposite(AlphaComposite.Src);
+        graphics_2d.drawImage(image, 0, 0, null);
+        graphics_2d.dispose();
+        return copy;
+    }
+
+    /**
+     * @param millis (long) : The specified time in milliseconds, such as AppBase.getMillis().
+     * @return The frame that is shown at the time passed in, where the sequence loops continuously.
+     */
+    public BufferedImage getFrame(long millis) {
+        return frames[getFrameIndex(millis)];
+    }
+
+    /**
+     * @param millis (long) : The specified time in milliseconds, such as AppBase.getMillis().
+     * @return The index of the frame that is shown at the time passed in, where the sequence loops continuously.
+     */
+    public int getFrameIndex(long millis) {
+        long sequence_millis = Math.floorMod(millis, total_millis);
+        // Binary search for the first frame that ends after the time within the sequence:
+        int low = 0;
+        int high = frame_end_millis.length - 1;
+        while(low < high) {
+            int middle = (low + high) >>> 1;
+            if(frame_end_millis[middle] <= sequence_millis) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * @return The amount of frames within the sequence.
+     */
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    /**
+     * @return The width of each frame. Unit of measurement: Pixels.
+     */
+    public int getWidth() {
+        return frames[0].getWidth();
+    }
+
+    /**
+     * @return The height of each frame. Unit of measurement: Pixels.
+     */
+    public int getHeight() {
+        return frames[0].getHeight();
+    }
+
+    /**
+     * @return How long it takes to show every frame once in milliseconds.
+     */
+    public long getTotalMillis() {
+        return total_millis;
+    }
+}
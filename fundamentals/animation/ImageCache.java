@@ -0,0 +1,281 @@
+package fundamentals.animation;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import fundamentals.Constants;
+
+/**
+ * A shared, thread-safe cache of decoded images keyed by file name. Every Animation, along with GUIOption and the application's
+ * icons, retrieves its Image from the ImageCache so that an image file is only decoded once rather than every time it is drawn.
+ * Moreover, the cache is bounded by a budget of bytes, where the least recently used images are evicted once the budget is exceeded.
+ *
+ * @see
+ * Note: Images that must always stay resident, such as the application's icons, can be pinned. Pinned images are never evicted
+ * until they have been unpinned as many times as they have been pinned.
+ *
+ * @see
+ * Note: The size of a decoded image is estimated as 4 bytes per pixel; one ARGB pixel.
+ */
+public class ImageCache
+{
+    private static final int BYTES_PER_PIXEL = 4;
+    private static ImageCache image_cache = new ImageCache(Constants.ASSET_CHARACTERISTICS.IMAGE_CACHE_BUDGET_BYTES);
+
+    private final LinkedHashMap<String, CachedImage> images = new LinkedHashMap<String, CachedImage>(16, 0.75f, true);
+    private long budget_bytes = 0;
+    private long used_bytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    private static class CachedImage {
+        private final BufferedImage image;
+        private final AcceleratedImage accelerated_image;
+        private final long bytes;
+        private int pin_count = 0;
+
+        private CachedImage(BufferedImage image, long bytes) {
+            this.image = image;
+            this.accelerated_image = new AcceleratedImage(image);
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * A shared, thread-safe cache of decoded images keyed by file name.
+     * @param budget_bytes (long) : The unsigned amount of bytes that decoded images may occupy before images are evicted.
+     */
+    private ImageCache(long budget_bytes) {
+        this.budget_bytes = Math.max(budget_bytes, 0);
+    }
+
+    /**
+     * Used to get the decoded image of the file passed in. If the image is not already cached, then it will be decoded and cached.
+     *
+     * @param file_name (String) : The name of the image file; file type included. EX: "myImage.png"
+     * @return The decoded image, or null if the image file could not be found.
+     */
+    public Image getImage(String file_name) {
+        CachedImage cached_image = lookup(file_name, false);
+        return (cached_image != null) ? cached_image.image : null;
+    }
+
+    /**
+     * Used to get the decoded image of the file passed in, wrapped so that it may be promoted to a VolatileImage when it is drawn frequently.
+     * If the image is not already cached, then it will be decoded and cached.
+     *
+     * @param file_name (String) : The name of the image file; file type included. EX: "myImage.png"
+     * @return The wrapped decoded image, or null if the image file could not be found.
+     */
+    public AcceleratedImage getAcceleratedImage(String file_name) {
+        CachedImage cached_image = lookup(file_name, false);
+        return (cached_image != null) ? cached_image.accelerated_image : null;
+    }
+
+    /**
+     * Used to keep the image of the file passed in resident in the cache; it will not be evicted until it is unpinned.
+     * If the image is not already cached, then it will be decoded and cached.
+     *
+     * @param file_name (String) : The name of the image file; file type included. EX: "myImage.png"
+     */
+    public void pin(String file_name) {
+        lookup(file_name, true);
+    }
+
+    private CachedImage lookup(String file_name, boolean pin) {
+        synchronized(this) {
+            CachedImage cached_image = images.get(file_name);
+            if(cached_image != null) {
+                hits++;
+                cached_image.pin_count += pin ? 1 : 0;
+                return cached_image;
+            }
+
+            misses++;
+        }
+
+        // Decode outside of the lock so that other images can still be retrieved while decoding:
+        BufferedImage image = decodeImage(file_name);
+        if(image == null) {
+            return null;
+        }
+
+        synchronized(this) {
+            CachedImage cached_image = images.get(file_name);
+            if(cached_image == null) {
+                cached_image = new CachedImage(image, estimateBytes(image));
+                images.put(file_name, cached_image);
+                used_bytes += cached_image.bytes;
+            }
+
+            cached_image.pin_count += pin ? 1 : 0;
+            evict();
+            return cached_image;
+        }
+    }
+
+    /**
+     * Used to allow the image of the file passed in to be evicted again once it has been unpinned as many times as it was pinned.
+     * @param file_name (String) : The name of the image file; file type included. EX: "myImage.png"
+     */
+    public synchronized void unpin(String file_name) {
+        CachedImage cached_image = images.get(file_name);
+        if(cached_image != null && cached_image.pin_count > 0) {
+            cached_image.pin_count--;
+            evict();
+        }
+    }
+
+    /**
+     * Used to determine if the image of the file passed in is currently pinned.
+     * @param file_name (String) : The name of the image file; file type included. EX: "myImage.png"
+     * @return Whether or not the image is pinned.
+     */
+    public synchronized boolean isPinned(String file_name) {
+        CachedImage cached_image = images.get(file_name);
+        return cached_image != null && cached_image.pin_count > 0;
+    }
+
+    /**
+     * Used to set the amount of bytes that decoded images may occupy. Least recently used images are immediately evicted if the
+     * new budget is exceeded.
+     *
+     * @param budget_bytes (long) : The unsigned amount of bytes.
+     */
+    public synchronized void setBudgetBytes(long budget_bytes) {
+        this.budget_bytes = Math.max(budget_bytes, 0);
+        evict();
+    }
+
+    /**
+     * Removes the image of the file passed in from the cache, unless it is pinned.
+     * @param file_name (String) : The name of the image file; file type included. EX: "myImage.png"
+     */
+    public synchronized void remove(String file_name) {
+        CachedImage cached_image = images.get(file_name);
+        if(cached_image != null && cached_image.pin_count == 0) {
+            used_bytes -= cached_image.bytes;
+            images.remove(file_name);
+        }
+    }
+
+    /**
+     * Removes every image that is not pinned from the cache.
+     */
+    public synchronized void clear() {
+        Iterator<CachedImage> iterator = images.values().iterator();
+        while(iterator.hasNext()) {
+            CachedImage cached_image = iterator.next();
+            if(cached_image.pin_count == 0) {
+                used_bytes -= cached_image.bytes;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Evicts the least recently used images that are not pinned until the cache is within its budget.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, CachedImage>> iterator = images.entrySet().iterator();
+        while(used_bytes > budget_bytes && iterator.hasNext()) {
+            CachedImage cached_image = iterator.next().getValue();
+            if(cached_image.pin_count == 0) {
+                used_bytes -= cached_image.bytes;
+                evictions++;
+                iterator.remove();
+            }
+        }
+    }
+
+    private BufferedImage decodeImage(String file_name) {
+        // Warm starts copy the decoded pixels straight out of the mapped cache file:
+        BufferedImage cached_pixels = PixelCache.getInstance().getImage(file_name);
+        if(cached_pixels != null) {
+            return cached_pixels;
+        }
+
+        URL url = ImageCache.class.getResource("/" + Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + file_name);
+        if(url == null) {
+            System.err.println("ImageCache.java: Could not find the requested image file! " + file_name);
+            return null;
+        }
+
+        // ImageIO decodes on the calling thread, whereas ImageIcon serializes every decode through a shared MediaTracker:
+        BufferedImage decoded_image;
+        try {
+            decoded_image = ImageIO.read(url);
+        }
+        catch(IOException e) {
+            System.err.println("ImageCache.java: IOException caught while decoding " + file_name + "!");
+            return null;
+        }
+        if(decoded_image == null) {
+            System.err.println("ImageCache.java: Could not decode the requested image file! " + file_name);
+            return null;
+        }
+
+        // Convert once to the screen's pixel format so that drawing the image never requires converting its pixels:
+        BufferedImage image = CompatibleImages.toCompatible(decoded_image);
+        PixelCache.getInstance().put(file_name, image);
+        return image;
+    }
+
+    private long estimateBytes(BufferedImage image) {
+        return (long)image.getWidth() * image.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * @return The amount of image lookups that were already cached.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return The amount of image lookups that required an image to be decoded.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return The amount of images that have been evicted to stay within the budget.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return The estimated amount of bytes that cached images currently occupy.
+     */
+    public synchronized long getUsedBytes() {
+        return used_bytes;
+    }
+
+    /**
+     * @return The amount of bytes that cached images may occupy.
+     */
+    public synchronized long getBudgetBytes() {
+        return budget_bytes;
+    }
+
+    /**
+     * @return The amount of images currently cached.
+     */
+    public synchronized int getSize() {
+        return images.size();
+    }
+
+    public static ImageCache getInstance() {
+        return image_cache;
+    }
+}
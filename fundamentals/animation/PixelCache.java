@@ -0,0 +1,367 @@
+package fundamentals.animation;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import fundamentals.Constants;
+
+/**
+ * A versioned cache file of decoded pixels, so that images do not need to be decoded again every time the application starts. Moreover,
+ * the cache file holds the raw pixels of every image that has been decoded, along with an index describing where each image's pixels are
+ * located within the file. The file is opened with FileChannel.map(...), so that an image is loaded by copying its pixels straight out of
+ * the mapped file rather than decoding its image file.
+ *
+ * @see
+ * Note: Each entry is validated against the size, timestamp, and hash of its image file. An entry whose image file has been modified
+ * is ignored and its image is decoded again; save() then writes a new cache file, keeping every entry that is still valid.
+ *
+ * @see
+ * Note: Pixels are stored in the screen's pixel format. If the screen's pixel format changes, the whole cache file is ignored.
+ *
+ * @see
+ * Note: A mapped file can't be replaced on every platform while it's still mapped, and a mapping can't be released explicitly, so each
+ * save() writes a new generation of the cache file, such as "pixels.cache.2", and maps it instead. Every older generation is deleted the
+ * next time the application starts, once nothing maps it anymore.
+ */
+public class PixelCache
+{
+    private static final int MAGIC = 0x4A414250;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 5 * Integer.BYTES;
+    private static PixelCache pixel_cache = new PixelCache();
+
+    private volatile MappedByteBuffer mapped_file = null;
+    private volatile HashMap<String, Entry> entries = new HashMap<String, Entry>();
+    private long generation = 0;
+    private final ConcurrentHashMap<String, PendingEntry> pending_entries = new ConcurrentHashMap<String, PendingEntry>();
+    private final int image_type = CompatibleImages.createImage(1, 1).getType();
+
+    private static final class Entry {
+        private final String file_name;
+        private final long byte_size;
+        private final long last_modified;
+        private final long hash;
+        private final int width;
+        private final int height;
+        private final long offset;
+
+        private Entry(String file_name, long byte_size, long last_modified, long hash, int width, int height, long offset) {
+            this.file_name = file_name;
+            this.byte_size = byte_size;
+            this.last_modified = last_modified;
+            this.hash = hash;
+            this.width = width;
+            this.height = height;
+            this.offset = offset;
+        }
+    }
+
+    private static final class PendingEntry {
+        private final Entry entry;
+        private final int[] pixels;
+
+        private PendingEntry(Entry entry, int[] pixels) {
+            this.entry = entry;
+            this.pixels = pixels;
+        }
+    }
+
+    private PixelCache() {
+        if(isSupported()) {
+            generation = deleteOlderGenerations();
+            open(getPath(generation));
+        }
+    }
+
+    /**
+     * Deletes every generation of the cache file except for the latest one.
+     * @return The latest generation, or zero if there is no cache file.
+     */
+    private long deleteOlderGenerations() {
+        Path directory = getPath(0).getParent();
+        if(!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        LinkedList<Path> paths = new LinkedList<Path>();
+        long latest_generation = 0;
+        try(var stream = Files.newDirectoryStream(directory, Constants.ASSET_CHARACTERISTICS.PIXEL_CACHE_FILE + "*")) {
+            for(var path : stream) {
+                paths.add(path);
+                latest_generation = Math.max(latest_generation, getGeneration(path));
+            }
+        }
+        catch(IOException e) {
+            return 0;
+        }
+
+        for(var path : paths) {
+            if(getGeneration(path) != latest_generation || latest_generation == 0) {
+                try {
+                    Files.deleteIfExists(path);
+                }
+                catch(IOException e) {
+                    // Another instance of the application may still map it; it's deleted by a later startup instead.
+                }
+            }
+        }
+
+        return latest_generation;
+    }
+
+    /**
+     * @return The generation of the cache file at the path passed in, or zero if the path isn't a generation of the cache file.
+     */
+    private long getGeneration(Path path) {
+        String prefix = Constants.ASSET_CHARACTERISTICS.PIXEL_CACHE_FILE + ".";
+        String file_name = path.getFileName().toString();
+        if(!file_name.startsWith(prefix)) {
+            return 0;
+        }
+
+        try {
+            return Math.max(Long.parseLong(file_name.substring(prefix.length())), 0);
+        }
+        catch(NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Maps the cache file at the path passed in and reads its index. If the cache file is missing, was written by another version, or was 
+     * written in another pixel format, then the cache starts empty.
+     */
+    private synchronized void open(Path path) {
+        if(!isSupported() || !Files.isRegularFile(path)) {
+            return;
+        }
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.nativeOrder());
+            if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getInt() != image_type
+            || buffer.getInt() != (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? 0 : 1)) {
+                return;
+            }
+
+            HashMap<String, Entry> read_entries = new HashMap<String, Entry>();
+            int entry_count = buffer.getInt();
+            for(int i = 0; i < entry_count; i++) {
+                byte[] name = new byte[buffer.getShort()];
+                buffer.get(name);
+                Entry entry = new Entry(new String(name, StandardCharsets.UTF_8), buffer.getLong(), buffer.getLong(), buffer.getLong(),
+                    buffer.getInt(), buffer.getInt(), buffer.getLong());
+                read_entries.put(entry.file_name, entry);
+            }
+
+            mapped_file = buffer;
+            entries = read_entries;
+        }
+        catch(IOException | RuntimeException e) {
+            System.err.println("PixelCache.java: Could not read the cache file! Images will be decoded again.");
+        }
+    }
+
+    /**
+     * Used to load the image of the file passed in from the cache file.
+     *
+     * @param file_name (String) : The name of the image file; file type included. EX: "myImage.png"
+     * @return The image in the screen's pixel format, or null if the image is not cached or its image file has been modified.
+     */
+    public BufferedImage getImage(String file_name) {
+        Entry entry = entries.get(file_name);
+        MappedByteBuffer buffer = mapped_file;
+        if(!isSupported() || entry == null || buffer == null || !isValid(entry)) {
+            return null;
+        }
+
+        BufferedImage image = new BufferedImage(entry.width, entry.height, image_type);
+        int[] pixels = ((DataBufferInt)image.getRaster().getDataBuffer()).getData();
+        // Each reader works on its own view of the mapped file, so images can be loaded in parallel:
+        ByteBuffer view = buffer.duplicate().order(ByteOrder.nativeOrder());
+        view.position((int)entry.offset);
+        view.asIntBuffer().get(pixels);
+        return image;
+    }
+
+    /**
+     * Used to add the decoded image of the file passed in to the cache file the next time save() is called.
+     *
+     * @param file_name (String) : The name of the image file; file type included. EX: "myImage.png"
+     * @param image (BufferedImage) : The decoded image, which must be in the screen's pixel format.
+     */
+    public void put(String file_name, BufferedImage image) {
+        File file = new File(Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + file_name);
+        if(!isSupported() || image.getType() != image_type || !file.isFile()) {
+            return;
+        }
+
+        int[] pixels = new int[image.getWidth() * image.getHeight()];
+        image.getRaster().getDataElements(0, 0, image.getWidth(), image.getHeight(), pixels);
+        Entry entry = new Entry(file_name, file.length(), file.lastModified(), hash(file), image.getWidth(), image.getHeight(), 0);
+        pending_entries.put(file_name, new PendingEntry(entry, pixels));
+    }
+
+    /**
+     * Rewrites the cache file with every entry that is still valid along with every image added since the cache file was last written.
+     * Nothing is written if no images have been added.
+     */
+    public synchronized void save() {
+        if(!isSupported() || pending_entries.isEmpty()) {
+            return;
+        }
+
+        // Collect the entries to write; newly added images replace any previous entries of the same files:
+        LinkedList<Entry> kept_entries = new LinkedList<Entry>();
+        for(var entry : entries.values()) {
+            if(!pending_entries.containsKey(entry.file_name) && isValid(entry)) {
+                kept_entries.addLast(entry);
+            }
+        }
+
+        LinkedList<PendingEntry> added_entries = new LinkedList<PendingEntry>(pending_entries.values());
+        long index_bytes = 0;
+        for(var entry : kept_entries) {
+            index_bytes += getIndexBytes(entry);
+        }
+        for(var pending_entry : added_entries) {
+            index_bytes += getIndexBytes(pending_entry.entry);
+        }
+
+        HashMap<String, Entry> written_entries = new HashMap<String, Entry>();
+        long offset = HEADER_BYTES + index_bytes;
+        for(var entry : kept_entries) {
+            // Kept entries take the current timestamp of their file, so a file that was only touched is not hashed again on the next startup:
+            long last_modified = new File(Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + entry.file_name).lastModified();
+            written_entries.put(entry.file_name, new Entry(entry.file_name, entry.byte_size, last_modified, entry.hash, entry.width, entry.height, offset));
+            offset += (long)entry.width * entry.height * Integer.BYTES;
+        }
+        for(var pending_entry : added_entries) {
+            Entry entry = pending_entry.entry;
+            written_entries.put(entry.file_name, new Entry(entry.file_name, entry.byte_size, entry.last_modified, entry.hash, entry.width, entry.height, offset));
+            offset += (long)entry.width * entry.height * Integer.BYTES;
+        }
+
+        if(offset > Integer.MAX_VALUE) {
+            System.err.println("PixelCache.java: Decoded pixels are too large for the cache file!");
+            return;
+        }
+
+        try {
+            // The current generation may still be mapped, so a new generation is written rather than replacing it:
+            Path path = getPath(generation + 1);
+            Files.createDirectories(path.getParent());
+            Path temporary_path = path.resolveSibling(path.getFileName() + ".tmp");
+            try(FileChannel channel = FileChannel.open(temporary_path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, offset);
+                buffer.order(ByteOrder.nativeOrder());
+                buffer.putInt(MAGIC).putInt(VERSION).putInt(image_type).putInt(ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? 0 : 1);
+                buffer.putInt(written_entries.size());
+                for(var entry : kept_entries) {
+                    putIndex(buffer, written_entries.get(entry.file_name));
+                }
+                for(var pending_entry : added_entries) {
+                    putIndex(buffer, written_entries.get(pending_entry.entry.file_name));
+                }
+                // Copy the pixels of kept entries straight from the previous cache file:
+                for(var entry : kept_entries) {
+                    ByteBuffer pixels = mapped_file.duplicate();
+                    pixels.position((int)entry.offset);
+                    pixels.limit((int)(entry.offset + (long)entry.width * entry.height * Integer.BYTES));
+                    buffer.put(pixels);
+                }
+                for(var pending_entry : added_entries) {
+                    buffer.asIntBuffer().put(pending_entry.pixels);
+                    buffer.position(buffer.position() + pending_entry.pixels.length * Integer.BYTES);
+                }
+
+                buffer.force();
+            }
+
+            Files.move(temporary_path, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            generation++;
+            for(var pending_entry : added_entries) {
+                pending_entries.remove(pending_entry.entry.file_name, pending_entry);
+            }
+
+            mapped_file = null;
+            entries = new HashMap<String, Entry>();
+            open(path);
+        }
+        catch(IOException e) {
+            System.err.println("PixelCache.java: Could not write the cache file!");
+        }
+    }
+
+    /**
+     * @return Whether or not the screen's pixel format stores each pixel as a single int, which is the only format that can be cached.
+     */
+    private boolean isSupported() {
+        return Constants.ASSET_CHARACTERISTICS.PIXEL_CACHE_ENABLED && (image_type == BufferedImage.TYPE_INT_ARGB
+            || image_type == BufferedImage.TYPE_INT_ARGB_PRE || image_type == BufferedImage.TYPE_INT_RGB);
+    }
+
+    private long getIndexBytes(Entry entry) {
+        return Short.BYTES + entry.file_name.getBytes(StandardCharsets.UTF_8).length + 3 * Long.BYTES + 2 * Integer.BYTES + Long.BYTES;
+    }
+
+    private void putIndex(ByteBuffer buffer, Entry entry) {
+        byte[] name = entry.file_name.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short)name.length).put(name);
+        buffer.putLong(entry.byte_size).putLong(entry.last_modified).putLong(entry.hash);
+        buffer.putInt(entry.width).putInt(entry.height).putLong(entry.offset);
+    }
+
+    /**
+     * @return Whether or not the entry still describes its image file. The file is only hashed when its timestamp has changed.
+     */
+    private boolean isValid(Entry entry) {
+        File file = new File(Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + entry.file_name);
+        if(!file.isFile() || file.length() != entry.byte_size) {
+            return false;
+        }
+
+        return file.lastModified() == entry.last_modified || hash(file) == entry.hash;
+    }
+
+    private long hash(File file) {
+        CRC32 crc = new CRC32();
+        try(InputStream stream = Files.newInputStream(file.toPath())) {
+            byte[] bytes = new byte[8192];
+            int read = 0;
+            while((read = stream.read(bytes)) > 0) {
+                crc.update(bytes, 0, read);
+            }
+        }
+        catch(IOException e) {
+            return -1;
+        }
+
+        return crc.getValue();
+    }
+
+    private Path getPath(long generation) {
+        return Path.of(Constants.FILE_ROOT_DIRECTORIES.CACHE_ROOT_DIRECTORY, Constants.ASSET_CHARACTERISTICS.PIXEL_CACHE_FILE + "." + generation);
+    }
+
+    public static PixelCache getInstance() {
+        return pixel_cache;
+    }
+}
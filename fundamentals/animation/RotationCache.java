@@ -0,0 +1,147 @@
+package fundamentals.animation;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+
+import fundamentals.Constants;
+
+/**
+ * A cache of pre-rotated copies of images. Moreover, drawing an image through a rotated transformation is the slowest way to draw
+ * with Java2D, so rotated components can instead draw a copy of their image that has already been rotated to the nearest cached angle,
+ * which only requires a plain untransformed draw.
+ *
+ * @see
+ * Note: Angles are rounded to the nearest multiple of the cache's step in degrees, and each rotated copy is only created the first time
+ * it is needed. Once the cache's budget of bytes is used, angles that have not been cached are drawn through a live transformation instead.
+ *
+ * @see
+ * Note: Each rotated copy is a square as wide as the image's diagonal, so that every angle fits; the image's center is the square's center.
+ */
+public class RotationCache
+{
+    private static final int BYTES_PER_PIXEL = 4;
+    private static RotationCache rotation_cache = new RotationCache();
+
+    private HashMap<String, BufferedImage[]> rotations = new HashMap<String, BufferedImage[]>();
+    private boolean enabled = Constants.ASSET_CHARACTERISTICS.ROTATION_CACHE_ENABLED;
+    private int step_degrees = Math.max(Constants.ASSET_CHARACTERISTICS.ROTATION_CACHE_STEP_DEGREES, 1);
+    private long budget_bytes = Math.max(Constants.ASSET_CHARACTERISTICS.ROTATION_CACHE_BUDGET_BYTES, 0);
+    private long used_bytes = 0;
+
+    /**
+     * Used to get a copy of the animation's image that has been rotated by the degrees passed in, rounded to the cache's step.
+     *
+     * @param animation (Animation) : The specified animation; animated images are never cached.
+     * @param degrees (int) : The specified clockwise rotation relative to the X-axis.
+     * @return The rotated copy, or null if the image should be drawn through a live transformation instead.
+     */
+    public synchronized BufferedImage getRotatedImage(Animation animation, int degrees) {
+        int index = Math.floorMod(Math.round((float)degrees / step_degrees), 360 / step_degrees);
+        if(!enabled || index == 0 || animation.isAnimated()) {
+            return null;
+        }
+
+        // Every Animation of the same file shares the same rotated copies:
+        BufferedImage[] rotated_images = rotations.get(animation.getName());
+        if(rotated_images == null) {
+            rotated_images = new BufferedImage[360 / step_degrees];
+            rotations.put(animation.getName(), rotated_images);
+        }
+
+        if(rotated_images[index] == null) {
+            Image image = animation.getAnimation();
+            if(image == null) {
+                return null;
+            }
+
+            int width = image.getWidth(null);
+            int height = image.getHeight(null);
+            int size = (int)Math.ceil(Math.sqrt((double)width * width + (double)height * height));
+            long bytes = (long)size * size * BYTES_PER_PIXEL;
+            if(used_bytes + bytes > budget_bytes) {
+                return null;
+            }
+
+            rotated_images[index] = rotate(image, width, height, size, index * step_degrees);
+            used_bytes += bytes;
+        }
+
+        return rotated_images[index];
+    }
+
+    private BufferedImage rotate(Image image, int width, int height, int size, int degrees) {
+        BufferedImage rotated_image = CompatibleImages.createImage(size, size);
+        Graphics2D graphics_2d = rotated_image.createGraphics();
+        graphics_2d.setComposite(AlphaComposite.Src);
+        graphics_2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics_2d.rotate(Math.toRadians(degrees), size / 2.0, size / 2.0);
+        graphics_2d.drawImage(image, (size - width) / 2, (size - height) / 2, null);
+        graphics_2d.dispose();
+        return rotated_image;
+    }
+
+    /**
+     * Used to enable or disable the cache. Disabling the cache releases every rotated copy, and every rotated image is then drawn through
+     * a live transformation; this is useful when memory is tight.
+     *
+     * @param enabled (boolean) : Whether or not rotated copies should be cached.
+     */
+    public synchronized void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if(!enabled) {
+            clear();
+        }
+    }
+
+    /**
+     * @return Whether or not rotated copies are cached.
+     */
+    public synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Used to set the step that angles are rounded to. Every rotated copy is released, since they were rotated with the previous step.
+     * @param step_degrees (int) : The specified step in degrees; it must divide 360 evenly.
+     */
+    public synchronized void setStepDegrees(int step_degrees) {
+        if(step_degrees >= 1 && 360 % step_degrees == 0) {
+            this.step_degrees = step_degrees;
+            clear();
+        }
+    }
+
+    /**
+     * Used to set the amount of bytes that rotated copies may occupy. Every rotated copy is released if the new budget is already exceeded.
+     * @param budget_bytes (long) : The unsigned amount of bytes.
+     */
+    public synchronized void setBudgetBytes(long budget_bytes) {
+        this.budget_bytes = Math.max(budget_bytes, 0);
+        if(used_bytes > this.budget_bytes) {
+            clear();
+        }
+    }
+
+    /**
+     * Releases every rotated copy.
+     */
+    public synchronized void clear() {
+        rotations.clear();
+        used_bytes = 0;
+    }
+
+    /**
+     * @return The amount of bytes that rotated copies currently occupy.
+     */
+    public synchronized long getUsedBytes() {
+        return used_bytes;
+    }
+
+    public static RotationCache getInstance() {
+        return rotation_cache;
+    }
+}
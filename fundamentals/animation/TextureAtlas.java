@@ -0,0 +1,196 @@
+package fundamentals.animation;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+
+import fundamentals.Constants;
+
+/**
+ * Used to pack the images within the "assets/images/" root directory into a few large sheets at startup. Moreover, each packed image
+ * becomes a region of a shared sheet, so that drawing many different images draws from only a few source images, and many small images
+ * do not each occupy their own separate image in memory.
+ *
+ * @see
+ * Note: Only images with a single frame that fit within the maximum region size are packed, and images that are pinned within the
+ * ImageCache are left alone. Every other image is still drawn from the ImageCache as usual.
+ *
+ * @see
+ * Note: Images are packed onto shelves, where the tallest images are placed first and each shelf is as tall as its tallest image.
+ */
+public class TextureAtlas
+{
+    private static final int PADDING = 1;
+    private static TextureAtlas texture_atlas = new TextureAtlas();
+
+    private volatile HashMap<String, Region> regions = new HashMap<String, Region>();
+    private volatile AcceleratedImage[] sheets = new AcceleratedImage[0];
+
+    /**
+     * A data structure that describes where a packed image is located within one of the atlas's sheets.
+     */
+    public static final class Region {
+        private final AcceleratedImage sheet;
+        private final int sheet_index;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+        private BufferedImage image = null;
+
+        private Region(AcceleratedImage sheet, int sheet_index, int x, int y, int width, int height) {
+            this.sheet = sheet;
+            this.sheet_index = sheet_index;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Draws the region with its upper-left corner at the coordinates passed in.
+         */
+        public void draw(Graphics2D graphics_2d, int x, int y) {
+            sheet.draw(graphics_2d, x, y, this.x, this.y, width, height);
+        }
+
+        /**
+         * @return The region as its own image, which shares its pixels with the sheet rather than copying them.
+         */
+        public synchronized BufferedImage getImage() {
+            if(image == null) {
+                image = sheet.getImage().getSubimage(x, y, width, height);
+            }
+
+            return image;
+        }
+
+        public BufferedImage getSheet() { return sheet.getImage(); }
+        public int getSheetIndex() { return sheet_index; }
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+    }
+
+    private static final class Placement {
+        private final AssetManifest.Entry entry;
+        private int sheet_index = 0;
+        private int x = 0;
+        private int y = 0;
+
+        private Placement(AssetManifest.Entry entry) {
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * Packs every eligible image within the AssetManifest into sheets, replacing any sheets that were previously packed. Packed images
+     * are removed from the ImageCache afterwards, since they will be drawn from their sheet.
+     */
+    public synchronized void build() {
+        ArrayList<Placement> placements = new ArrayList<Placement>();
+        for(var entry : AssetManifest.getInstance().getEntries()) {
+            if(entry.getFrameCount() == 1 && entry.getWidth() > 0 && entry.getHeight() > 0
+            && entry.getWidth() <= Constants.ASSET_CHARACTERISTICS.ATLAS_MAX_REGION_SIZE
+            && entry.getHeight() <= Constants.ASSET_CHARACTERISTICS.ATLAS_MAX_REGION_SIZE
+            && !ImageCache.getInstance().isPinned(entry.getFileName())) {
+                placements.add(new Placement(entry));
+            }
+        }
+
+        placements.sort((a, b) -> b.entry.getHeight() - a.entry.getHeight());
+        LinkedList<Integer> sheet_heights = pack(placements);
+
+        AcceleratedImage[] packed_sheets = new AcceleratedImage[sheet_heights.size()];
+        Graphics2D[] sheet_graphics = new Graphics2D[sheet_heights.size()];
+        for(int i = 0; i < packed_sheets.length; i++) {
+            packed_sheets[i] = new AcceleratedImage(CompatibleImages.createImage(Constants.ASSET_CHARACTERISTICS.ATLAS_SHEET_SIZE, sheet_heights.get(i)));
+            sheet_graphics[i] = packed_sheets[i].getImage().createGraphics();
+            sheet_graphics[i].setComposite(AlphaComposite.Src);
+        }
+
+        HashMap<String, Region> packed_regions = new HashMap<String, Region>();
+        for(var placement : placements) {
+            Image image = ImageCache.getInstance().getImage(placement.entry.getFileName());
+            if(image != null) {
+                sheet_graphics[placement.sheet_index].drawImage(image, placement.x, placement.y, null);
+                packed_regions.put(placement.entry.getFileName(), new Region(packed_sheets[placement.sheet_index], placement.sheet_index,
+                    placement.x, placement.y, placement.entry.getWidth(), placement.entry.getHeight()));
+            }
+        }
+
+        for(var graphics : sheet_graphics) {
+            graphics.dispose();
+        }
+
+        sheets = packed_sheets;
+        regions = packed_regions;
+        for(var file_name : packed_regions.keySet()) {
+            ImageCache.getInstance().remove(file_name);
+        }
+    }
+
+    /**
+     * Assigns a sheet and location to every placement passed in; placements must be sorted from tallest to shortest.
+     * @return The height that each sheet needs to be in order to fit its placements.
+     */
+    private LinkedList<Integer> pack(ArrayList<Placement> placements) {
+        final int SHEET_SIZE = Constants.ASSET_CHARACTERISTICS.ATLAS_SHEET_SIZE;
+        LinkedList<Integer> sheet_heights = new LinkedList<Integer>();
+        int sheet_index = -1;
+        int shelf_x = SHEET_SIZE;
+        int shelf_y = 0;
+        int shelf_height = 0;
+
+        for(var placement : placements) {
+            int width = placement.entry.getWidth() + PADDING;
+            int height = placement.entry.getHeight() + PADDING;
+            // Start a new shelf once the current shelf is full:
+            if(shelf_x + width > SHEET_SIZE) {
+                shelf_x = 0;
+                shelf_y += shelf_height;
+                shelf_height = height;
+            }
+            // Start a new sheet once the current sheet is full:
+            if(sheet_index < 0 || shelf_y + height > SHEET_SIZE) {
+                sheet_index++;
+                sheet_heights.addLast(0);
+                shelf_x = 0;
+                shelf_y = 0;
+                shelf_height = height;
+            }
+
+            placement.sheet_index = sheet_index;
+            placement.x = shelf_x;
+            placement.y = shelf_y;
+            shelf_x += width;
+            sheet_heights.set(sheet_index, Math.max(sheet_heights.get(sheet_index), shelf_y + height));
+        }
+
+        return sheet_heights;
+    }
+
+    /**
+     * @param file_name (String) : The name of the image file; file type included. EX: "myImage.png"
+     * @return The region of the image within the atlas, or null if the image has not been packed.
+     */
+    public Region getRegion(String file_name) {
+        return regions.get(file_name);
+    }
+
+    /**
+     * @return The amount of sheets that images have been packed into.
+     */
+    public int getSheetCount() {
+        return sheets.length;
+    }
+
+    public static TextureAtlas getInstance() {
+        return texture_atlas;
+    }
+}
@@ -2,32 +2,44 @@ package fundamentals.appbase;
 
 import java.awt.Image;
 import java.util.LinkedList;
+import java.util.concurrent.CompletableFuture;
 
 import javax.swing.JFrame;
 
+import app.ActiveRenderer;
 import app.GraphicsRenderer;
 import app.input.KeyboardListener;
 import fundamentals.Constants;
 import fundamentals.animation.Animation;
+import fundamentals.animation.AssetManifest;
+import fundamentals.animation.ImageCache;
+import fundamentals.animation.PixelCache;
+import fundamentals.animation.TextureAtlas;
+import fundamentals.component.RenderSnapshotBuffer;
 import fundamentals.mechanic.MechanicScheduler;
 
 /**
- * The base of every application. AppBase is what generates the application's window by using JFrame as its
- * superclass, while making use of AppGraphics, KeyboardListener, AppAudio. Furthermore, every application is a program that
+ * The base of every application. AppBase is what generates the application's window by using a JFrame, while making use of 
+ * AppGraphics, KeyboardListener, AppAudio. Furthermore, every application is a program that
  * continuously loops until the window is closed, and so AppBase is responsible for continuously running GUIs, Controllers,
  * Mechanics, and Components from their respective Scheduler classes. Moreover, AppBase must be extended as the superclass
  * of App.java & AppContainer.java to return Controller instances, run app audio, and to determine the application's current
  * status. 
+ * 
+ * @see
+ * Note: The window is only created once startApp() is called. An application can instead be ran without a window, or AWT at all, by
+ * HeadlessRuntime; this is useful for running simulations and benchmarks on servers and CI machines that have no display.
  */
-public class AppBase extends JFrame implements AppInterface
+public class AppBase implements AppInterface
 {
+    private JFrame window = null;
     private LinkedList<Image> icons = new LinkedList<Image>();
     private int current_icon_index = 0;
+    private long next_icon_millis = 0;
     private PrioritizedAppStatus prev_app_status = null;
     private PrioritizedAppStatus app_status = null;
     private boolean determined_app_status = false;
-    // Initial millis start time:
-    private static long program_start_millis = System.currentTimeMillis();
+    private CompletableFuture<Void> preload_assets = null;
 
     private interface PrioritizedAppStatus {
         public void prioritizedInit();
@@ -37,70 +49,193 @@ public class AppBase extends JFrame implements AppInterface
 
     private void prepareAppIcon() {
         for(int i = 0; i < Constants.WINDOW_CHARACTERISTICS.APP_ICON_IMAGES.length; i++) {
+            // Icons are swapped every second for the lifetime of the app, so keep them resident:
+            ImageCache.getInstance().pin(Constants.WINDOW_CHARACTERISTICS.APP_ICON_IMAGES[i]);
             icons.addLast(new Animation(Constants.WINDOW_CHARACTERISTICS.APP_ICON_IMAGES[i]).getAnimation());
         }
     }
 
     private void updateIconImage(int update_delay_millis) {
-        if(getMillis() % update_delay_millis == 0) {
-            super.setIconImage(icons.get(current_icon_index));
+        if(getMillis() >= next_icon_millis) {
+            next_icon_millis = getMillis() + update_delay_millis;
+            if(window != null) {
+                window.setIconImage(icons.get(current_icon_index));
+            }
             current_icon_index = (current_icon_index + 1 < icons.size()) ? current_icon_index + 1 : 0;
         }
     }
 
-    public static int getMillis() {
-        return (int)(System.currentTimeMillis() - program_start_millis);
+    /**
+     * @return The amount of milliseconds that have passed according to the engine's Clock, which is the MechanicScheduler's Clock.
+     */
+    public static long getMillis() {
+        return MechanicScheduler.getInstance().getClock().getMillis();
     }
 
     /**
      * Must be called once to begin running the application. 
+     * 
+     * @see
+     * Note: When Constants.WINDOW_CHARACTERISTICS.FIXED_TIMESTEP_LOOP is enabled, ticks run at a fixed step of REFRESH_RATE_MILLIS that is
+     * measured with System.nanoTime(). Ticks that were missed because a tick ran late are caught up on, up to MAX_CATCH_UP_TICKS at a time,
+     * and the renderer interpolates components between the last two ticks so that motion stays smooth at any frame rate.
      */
     public void startApp() {
-        int initial_millis = getMillis();
         appBaseInit();
+        createWindow();
+        if(Constants.WINDOW_CHARACTERISTICS.FIXED_TIMESTEP_LOOP) {
+            runFixedTimestepLoop(Constants.WINDOW_CHARACTERISTICS.REFRESH_RATE_MILLIS * 1000000L);
+        }
+        else {
+            runSleepLoop();
+        }
+    }
+
+    private void runSleepLoop() {
+        // Ticks are paced in real time, regardless of how the engine's Clock runs:
+        long initial_millis = System.nanoTime() / 1000000;
         while(true) {
             try {
                 appBasePeriodic();
-                Thread.sleep(Math.max(Constants.WINDOW_CHARACTERISTICS.REFRESH_RATE_MILLIS - getMillis() + initial_millis, 0));
-                initial_millis = getMillis();
+                Thread.sleep(Math.max(Constants.WINDOW_CHARACTERISTICS.REFRESH_RATE_MILLIS - (System.nanoTime() / 1000000) + initial_millis, 0));
+                initial_millis = System.nanoTime() / 1000000;
             }
             catch(InterruptedException e) {}
         }
     }
 
+    private void runFixedTimestepLoop(long step_nanos) {
+        RenderSnapshotBuffer.getInstance().setInterpolationStepNanos(step_nanos);
+        long previous_nanos = System.nanoTime();
+        long accumulated_nanos = step_nanos;
+        while(true) {
+            long current_nanos = System.nanoTime();
+            accumulated_nanos += current_nanos - previous_nanos;
+            previous_nanos = current_nanos;
+
+            int ticks = 0;
+            while(accumulated_nanos >= step_nanos && ticks < Constants.WINDOW_CHARACTERISTICS.MAX_CATCH_UP_TICKS) {
+                appBasePeriodic();
+                accumulated_nanos -= step_nanos;
+                ticks++;
+            }
+            if(accumulated_nanos >= step_nanos) {
+                // Too far behind to catch up, so the remaining missed ticks are dropped rather than run in a burst:
+                accumulated_nanos %= step_nanos;
+            }
+
+            waitUntil(previous_nanos + step_nanos - accumulated_nanos);
+        }
+    }
+
+    /**
+     * Sleeps until shortly before the deadline passed in, and then spins for the remainder; sleeping alone can oversleep by more than a millisecond.
+     * @param deadline_nanos (long) : The specified System.nanoTime() to wait until.
+     */
+    private static void waitUntil(long deadline_nanos) {
+        long remaining_nanos = deadline_nanos - System.nanoTime();
+        while(remaining_nanos > 0) {
+            if(remaining_nanos > Constants.WINDOW_CHARACTERISTICS.SPIN_WAIT_NANOS) {
+                long sleep_nanos = remaining_nanos - Constants.WINDOW_CHARACTERISTICS.SPIN_WAIT_NANOS;
+                try {
+                    Thread.sleep(sleep_nanos / 1000000, (int)(sleep_nanos % 1000000));
+                }
+                catch(InterruptedException e) {}
+            }
+            else {
+                Thread.onSpinWait();
+            }
+            remaining_nanos = deadline_nanos - System.nanoTime();
+        }
+    }
+
     /**
      * Is called once to serve as initialization before running the application. 
      */
-    private void appBaseInit() {
+    void appBaseInit() {
+        // Scan the image assets once so that components can be measured without reading image files:
+        AssetManifest.getInstance();
+        preload_assets = AssetPreloader.getInstance().preloadAll().thenRun(() -> {
+            // Write any newly decoded images so that the next startup does not decode them again:
+            PixelCache.getInstance().save();
+            if(Constants.ASSET_CHARACTERISTICS.ATLAS_ENABLED) {
+                TextureAtlas.getInstance().build();
+            }
+        });
         prepareAppIcon();
         initiateAppStatus();
+    }
 
-        super.setSize(Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH, Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT);
-        super.setResizable(false);
-        super.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        super.setTitle(Constants.WINDOW_CHARACTERISTICS.APP_TITLE);
-        super.setIconImage(icons.getLast());
-        super.setLocationRelativeTo(null);
-        super.setVisible(true);
+    /**
+     * Creates the application's window, along with the renderer that draws onto it.
+     */
+    private void createWindow() {
+        window = new JFrame();
+        window.setSize(Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH, Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT);
+        window.setResizable(false);
+        window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        window.setTitle(Constants.WINDOW_CHARACTERISTICS.APP_TITLE);
+        window.setIconImage(icons.getLast());
+        window.setLocationRelativeTo(null);
+        window.setVisible(true);
         
-        super.add(GraphicsRenderer.getInstance());
-        super.addKeyListener(KeyboardListener.getInstance().getKeyListener());
+        if(Constants.WINDOW_CHARACTERISTICS.ACTIVE_RENDERING) {
+            // Frames are rendered from a dedicated thread, so the window is never passively repainted:
+            window.setIgnoreRepaint(true);
+            window.add(ActiveRenderer.getInstance());
+            window.validate();
+            ActiveRenderer.getInstance().addKeyListener(KeyboardListener.getInstance().getKeyListener());
+            ActiveRenderer.getInstance().start();
+        }
+        else {
+            window.add(GraphicsRenderer.getInstance());
+        }
+
+        window.addKeyListener(KeyboardListener.getInstance().getKeyListener());
+    }
+
+    /**
+     * Blocks until every asset has been preloaded, so that the application's statuses run from the very first tick.
+     */
+    void awaitPreloadedAssets() {
+        if(preload_assets != null) {
+            preload_assets.join();
+        }
+    }
+
+    /**
+     * @return The application's window, or null if the application is not running in a window.
+     */
+    public JFrame getWindow() {
+        return window;
     }
 
     // Periodically called by app refresh rate (tick system)
-    private void appBasePeriodic() {
+    void appBasePeriodic() {
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        long phase_nanos = profiler.isEnabled() ? System.nanoTime() : 0;
         updateIconImage(1000);
-        determineAppStatus();
-        if(prev_app_status == null || prev_app_status.getStatusID() != app_status.getStatusID()) {
-            app_status.prioritizedInit(); 
-            prev_app_status = app_status;
-        }
+        // Statuses are held back until assets are preloaded, while components, events, and mechanics (such as a loading screen GUI) still run:
+        if(preload_assets == null || preload_assets.isDone()) {
+            determineAppStatus();
+            if(prev_app_status == null || prev_app_status.getStatusID() != app_status.getStatusID()) {
+                app_status.prioritizedInit(); 
+                prev_app_status = app_status;
+            }
 
-        app_status.prioritizedPeriodic();
+            app_status.prioritizedPeriodic();
+        }
+        phase_nanos = profiler.lap(FrameProfiler.STATUS, phase_nanos);
         
         MechanicScheduler.getInstance().runComponentPeriodics();
+        phase_nanos = profiler.lap(FrameProfiler.COMPONENT_PERIODICS, phase_nanos);
         MechanicScheduler.getInstance().runEvents();
+        phase_nanos = profiler.lap(FrameProfiler.EVENTS, phase_nanos);
         MechanicScheduler.getInstance().runMechanics();
+        profiler.lap(FrameProfiler.MECHANICS, phase_nanos);
+        profiler.recordCounts(MechanicScheduler.getInstance().getScheduledMechanicCount(), MechanicScheduler.getInstance().getEventCount());
+        // Hand the finished tick over to the renderer, which draws it while the next tick runs:
+        RenderSnapshotBuffer.getInstance().publish();
     }
 
     /**
@@ -0,0 +1,129 @@
+package fundamentals.appbase;
+
+import java.io.File;
+import java.util.LinkedList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import app.audio.AudioCache;
+import fundamentals.Constants;
+import fundamentals.animation.AssetManifest;
+import fundamentals.animation.FrameSequence;
+import fundamentals.animation.ImageCache;
+
+/**
+ * Used to decode image and WAV audio files ahead of time, in parallel, on a bounded pool of worker threads. Moreover, AppBase preloads
+ * every asset within the "assets/" root directories before the application's first status is initiated, so that components do not
+ * cause hitches by decoding their images the first time they are drawn.
+ *
+ * @see
+ * Note: Preloading returns a CompletableFuture that completes once every file passed in has been decoded. This allows the assets
+ * of an application's next status to be preloaded in the background while the current status is still running.
+ *
+ * @see
+ * Note: The progress of all preloading can be read at any time with getProgress(), such as by a loading screen GUI.
+ */
+public class AssetPreloader
+{
+    private static AssetPreloader asset_preloader = new AssetPreloader();
+
+    private final ExecutorService workers = Executors.newFixedThreadPool(Constants.ASSET_CHARACTERISTICS.PRELOAD_THREADS, (runnable) -> {
+        Thread thread = new Thread(runnable, "AssetPreloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger requested_files = new AtomicInteger(0);
+    private final AtomicInteger loaded_files = new AtomicInteger(0);
+
+    /**
+     * Used to decode every image within the "assets/images/" root directory and every WAV file within the "assets/audio/" root directory.
+     * @return A CompletableFuture that completes once every asset has been decoded.
+     */
+    public CompletableFuture<Void> preloadAll() {
+        LinkedList<String> file_names = new LinkedList<String>();
+        for(var entry : AssetManifest.getInstance().getEntries()) {
+            file_names.addLast(entry.getFileName());
+        }
+
+        File[] audio_files = new File(Constants.FILE_ROOT_DIRECTORIES.AUDIO_ROOT_DIRECTORY).listFiles();
+        if(audio_files != null) {
+            for(var audio_file : audio_files) {
+                if(audio_file.isFile() && audio_file.getName().toLowerCase().endsWith(".wav")) {
+                    file_names.addLast(audio_file.getName());
+                }
+            }
+        }
+
+        return preload(file_names.toArray(new String[file_names.size()]));
+    }
+
+    /**
+     * Used to decode the files passed in on the worker threads. WAV files are decoded into the AudioCache, animated GIFs are decoded
+     * into their shared FrameSequence, and all other files are decoded into the ImageCache.
+     *
+     * @param file_names (String...) : The specified names of the files; file type included. EX: "myImage.png" or "mySound.wav"
+     * @return A CompletableFuture that completes once every file passed in has been decoded.
+     */
+    public CompletableFuture<Void> preload(String... file_names) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[file_names.length];
+        requested_files.addAndGet(file_names.length);
+        for(int i = 0; i < file_names.length; i++) {
+            String file_name = file_names[i];
+            futures[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    AssetManifest.Entry entry = AssetManifest.getInstance().getEntry(file_name);
+                    if(file_name.toLowerCase().endsWith(".wav")) {
+                        AudioCache.getInstance().preload(file_name);
+                    }
+                    else if(entry != null && entry.getFormat().equals("gif") && entry.getFrameCount() > 1) {
+                        // Animations only ever draw their FrameSequence, so every frame is decoded rather than a single still image:
+                        FrameSequence.getGIF(file_name);
+                    }
+                    else {
+                        ImageCache.getInstance().getImage(file_name);
+                    }
+                }
+                finally {
+                    loaded_files.incrementAndGet();
+                }
+            }, workers);
+        }
+
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * @return The progress of all preloading as a percentage that is represented as a decimal, within the interval: [0, 1].
+     */
+    public double getProgress() {
+        int requested = requested_files.get();
+        return (requested == 0) ? 1.0 : Math.min((double)loaded_files.get() / requested, 1.0);
+    }
+
+    /**
+     * @return Whether or not every file requested to be preloaded has been decoded.
+     */
+    public boolean isFinished() {
+        return loaded_files.get() >= requested_files.get();
+    }
+
+    /**
+     * @return The amount of files that have been requested to be preloaded.
+     */
+    public int getRequestedFiles() {
+        return requested_files.get();
+    }
+
+    /**
+     * @return The amount of requested files that have been decoded.
+     */
+    public int getLoadedFiles() {
+        return loaded_files.get();
+    }
+
+    public static AssetPreloader getInstance() {
+        return asset_preloader;
+    }
+}
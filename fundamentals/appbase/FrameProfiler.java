@@ -0,0 +1,126 @@
+package fundamentals.appbase;
+
+import fundamentals.Constants;
+
+/**
+ * Used to time each phase of every tick (the application's statuses, component periodics, events, and mechanics) along with the time that each 
+ * frame takes to render, and to keep count of the amount of scheduled mechanics and registered events. Moreover, each phase keeps a rolling 
+ * window of its samples within a PhaseTimer, which is displayed by the frame timing HUD.
+ *
+ * @see
+ * Note: Nothing is timed while the profiler is disabled, which is the case unless the HUD is visible; timing a phase only costs a call to
+ * System.nanoTime() while enabled.
+ */
+public class FrameProfiler
+{
+    public static final int STATUS = 0;
+    public static final int COMPONENT_PERIODICS = 1;
+    public static final int EVENTS = 2;
+    public static final int MECHANICS = 3;
+    public static final int RENDER = 4;
+    private static FrameProfiler frame_profiler = new FrameProfiler();
+
+    private final PhaseTimer[] timers = {
+        new PhaseTimer("status", Constants.WINDOW_CHARACTERISTICS.PROFILER_WINDOW_SIZE),
+        new PhaseTimer("periodics", Constants.WINDOW_CHARACTERISTICS.PROFILER_WINDOW_SIZE),
+        new PhaseTimer("events", Constants.WINDOW_CHARACTERISTICS.PROFILER_WINDOW_SIZE),
+        new PhaseTimer("mechanics", Constants.WINDOW_CHARACTERISTICS.PROFILER_WINDOW_SIZE),
+        new PhaseTimer("render", Constants.WINDOW_CHARACTERISTICS.PROFILER_WINDOW_SIZE)
+    };
+    private volatile boolean enabled = false;
+    private volatile int scheduled_mechanic_count = 0;
+    private volatile int event_count = 0;
+
+    /**
+     * Used to record the time since the start of a phase, which is usually the end of the previous phase.
+     * 
+     * @param phase (int) : The specified phase, such as FrameProfiler.MECHANICS.
+     * @param start_nanos (long) : The specified System.nanoTime() at the start of the phase.
+     * @return The current System.nanoTime(), which is the start of the next phase, or zero if the profiler is disabled.
+     */
+    public long lap(int phase, long start_nanos) {
+        if(!enabled) {
+            return 0;
+        }
+
+        long current_nanos = System.nanoTime();
+        // A phase that started before the profiler was enabled is not timed:
+        if(start_nanos != 0) {
+            timers[phase].record(current_nanos - start_nanos);
+        }
+        return current_nanos;
+    }
+
+    /**
+     * Used to record how long a phase took.
+     * 
+     * @param phase (int) : The specified phase, such as FrameProfiler.RENDER.
+     * @param nanos (long) : The specified time that the phase took. Unit of measurement: Nanoseconds.
+     */
+    public void record(int phase, long nanos) {
+        if(enabled) {
+            timers[phase].record(nanos);
+        }
+    }
+
+    /**
+     * Used to record the amount of scheduled mechanics and registered events at the end of a tick.
+     */
+    public void recordCounts(int scheduled_mechanic_count, int event_count) {
+        this.scheduled_mechanic_count = scheduled_mechanic_count;
+        this.event_count = event_count;
+    }
+
+    /**
+     * Used to enable or disable timing. Every PhaseTimer is reset once the profiler is enabled, so that old samples are not displayed.
+     * @param enabled (boolean) : Whether or not phases should be timed.
+     */
+    public void setEnabled(boolean enabled) {
+        if(enabled && !this.enabled) {
+            for(var timer : timers) {
+                timer.reset();
+            }
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return Whether or not phases are being timed.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param phase (int) : The specified phase, such as FrameProfiler.STATUS.
+     * @return The PhaseTimer of the phase passed in.
+     */
+    public PhaseTimer getTimer(int phase) {
+        return timers[phase];
+    }
+
+    /**
+     * @return The amount of phases that are timed.
+     */
+    public int getPhaseCount() {
+        return timers.length;
+    }
+
+    /**
+     * @return The amount of scheduled mechanics at the end of the last tick.
+     */
+    public int getScheduledMechanicCount() {
+        return scheduled_mechanic_count;
+    }
+
+    /**
+     * @return The amount of registered events at the end of the last tick.
+     */
+    public int getEventCount() {
+        return event_count;
+    }
+
+    public static FrameProfiler getInstance() {
+        return frame_profiler;
+    }
+}
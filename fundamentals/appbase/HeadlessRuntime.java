@@ -0,0 +1,229 @@
+package fundamentals.appbase;
+
+import java.io.File;
+
+import app.OffscreenRenderer;
+import fundamentals.Constants;
+import fundamentals.clock.VirtualClock;
+import fundamentals.component.RenderSnapshotBuffer;
+import fundamentals.mechanic.MechanicScheduler;
+
+/**
+ * Used to run an application without a window. Moreover, the application's statuses, events, mechanics, and component periodics are all 
+ * ran exactly as they are by startApp(), but no window is ever created, so the application can run on servers and CI machines that have no display.
+ * 
+ * @see
+ * Note: The engine's Clock is replaced by a VirtualClock that is advanced by exactly one tick's step before each tick. Mechanics therefore see
+ * time passing at the normal rate whether ticks are paced in real time or ran uncapped as fast as the CPU allows, and every run of the same
+ * application behaves the same way.
+ * 
+ * @see
+ * Note: Frames can optionally be rendered offscreen by an OffscreenRenderer every so many ticks, which includes the cost of rendering within 
+ * the run, and can be written to a directory as PNG files.
+ * EX: new HeadlessRuntime(new App()).setUncapped(true).setTickLimit(100000).run();
+ * 
+ * @see
+ * Note: Ticks can also be ran one at a time with tick(), such as by a test or a render benchmark.
+ */
+public class HeadlessRuntime
+{
+    private final AppBase app;
+    private final VirtualClock clock = new VirtualClock();
+    private int tick_rate = 1000 / Math.max(Constants.WINDOW_CHARACTERISTICS.REFRESH_RATE_MILLIS, 1);
+    private boolean uncapped = false;
+    private long tick_limit = 0;
+    private long time_limit_millis = 0;
+    private int render_interval_ticks = 0;
+    private File frame_dump_directory = null;
+    private OffscreenRenderer offscreen_renderer = null;
+    private boolean initialized = false;
+    private volatile boolean running = false;
+    private long ticks = 0;
+    private long elapsed_nanos = 0;
+    private long last_run_ticks = 0;
+
+    /**
+     * Used to run an application without a window.
+     * @param app (AppBase) : The specified application, such as App.java.
+     */
+    public HeadlessRuntime(AppBase app) {
+        this.app = app;
+    }
+
+    /**
+     * Used to set how many ticks make up a second of the application's time, and how many ticks are ran per second in real time unless uncapped.
+     * @param tick_rate (int) : The specified positive amount of ticks per second.
+     */
+    public HeadlessRuntime setTickRate(int tick_rate) {
+        this.tick_rate = Math.max(tick_rate, 1);
+        return this;
+    }
+
+    /**
+     * Used to run ticks as fast as possible rather than pacing them in real time. 
+     * @param uncapped (boolean) : Whether or not ticks should be ran as fast as possible.
+     */
+    public HeadlessRuntime setUncapped(boolean uncapped) {
+        this.uncapped = uncapped;
+        return this;
+    }
+
+    /**
+     * Used to stop running once an amount of ticks have been ran.
+     * @param tick_limit (long) : The specified amount of ticks, or zero to run without a tick limit.
+     */
+    public HeadlessRuntime setTickLimit(long tick_limit) {
+        this.tick_limit = Math.max(tick_limit, 0);
+        return this;
+    }
+
+    /**
+     * Used to stop running once an amount of real time has passed.
+     * @param time_limit_millis (long) : The specified amount of real time in milliseconds, or zero to run without a time limit.
+     */
+    public HeadlessRuntime setTimeLimitMillis(long time_limit_millis) {
+        this.time_limit_millis = Math.max(time_limit_millis, 0);
+        return this;
+    }
+
+    /**
+     * Used to render a frame offscreen every so many ticks.
+     * @param render_interval_ticks (int) : The specified amount of ticks between frames, or zero to never render.
+     */
+    public HeadlessRuntime setRenderIntervalTicks(int render_interval_ticks) {
+        this.render_interval_ticks = Math.max(render_interval_ticks, 0);
+        return this;
+    }
+
+    /**
+     * Used to write every offscreen frame as a PNG file into the directory passed in.
+     * @param frame_dump_directory (File) : The specified directory, or null to not write frames.
+     */
+    public HeadlessRuntime setFrameDumpDirectory(File frame_dump_directory) {
+        this.frame_dump_directory = frame_dump_directory;
+        return this;
+    }
+
+    /**
+     * Initializes the application and waits for its assets to be preloaded, if that has not already been done. 
+     */
+    public HeadlessRuntime initialize() {
+        if(!initialized) {
+            initialized = true;
+            MechanicScheduler.getInstance().setClock(clock);
+            // Ticks are never interpolated between, since frames are only ever rendered right after a tick:
+            RenderSnapshotBuffer.getInstance().setInterpolationStepNanos(0);
+            app.appBaseInit();
+            app.awaitPreloadedAssets();
+        }
+        return this;
+    }
+
+    /**
+     * Advances the VirtualClock by one tick's step and runs a single tick, initializing the application first if needed.
+     */
+    public void tick() {
+        initialize();
+        clock.advanceNanos(1000000000L / tick_rate);
+        app.appBasePeriodic();
+        ticks++;
+    }
+
+    /**
+     * Initializes the application, waits for its assets to be preloaded, and then runs ticks until the tick limit or time limit is reached, or
+     * stop() is called. Without either limit, this method only returns once stop() is called from another thread.
+     * 
+     * @return This HeadlessRuntime, whose results can then be read. 
+     */
+    public HeadlessRuntime run() {
+        long step_nanos = 1000000000L / tick_rate;
+        initialize();
+        if(render_interval_ticks > 0 && offscreen_renderer == null) {
+            offscreen_renderer = new OffscreenRenderer().setDumpDirectory(frame_dump_directory);
+        }
+
+        running = true;
+        long start_ticks = ticks;
+        long start_nanos = System.nanoTime();
+        long next_tick_nanos = start_nanos;
+        while(running && (tick_limit == 0 || ticks - start_ticks < tick_limit) 
+            && (time_limit_millis == 0 || System.nanoTime() - start_nanos < time_limit_millis * 1000000)) {
+            tick();
+            if(render_interval_ticks > 0 && ticks % render_interval_ticks == 0) {
+                offscreen_renderer.renderFrame();
+            }
+
+            if(!uncapped) {
+                next_tick_nanos += step_nanos;
+                long remaining_nanos = next_tick_nanos - System.nanoTime();
+                if(remaining_nanos > 0) {
+                    try {
+                        Thread.sleep(remaining_nanos / 1000000, (int)(remaining_nanos % 1000000));
+                    }
+                    catch(InterruptedException e) {}
+                }
+            }
+        }
+
+        elapsed_nanos = System.nanoTime() - start_nanos;
+        last_run_ticks = ticks - start_ticks;
+        running = false;
+        return this;
+    }
+
+    /**
+     * Stops running once the current tick has been ran.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * @return The amount of ticks that have been ran.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return The amount of frames that have been rendered offscreen.
+     */
+    public long getFrames() {
+        return (offscreen_renderer != null) ? offscreen_renderer.getFrameCount() : 0;
+    }
+
+    /**
+     * @return The amount of real time that the last run() took in nanoseconds, including rendering.
+     */
+    public long getElapsedNanos() {
+        return elapsed_nanos;
+    }
+
+    /**
+     * @return The amount of real time that rendering took in nanoseconds.
+     */
+    public long getRenderNanos() {
+        return (offscreen_renderer != null) ? offscreen_renderer.getTotalNanos() : 0;
+    }
+
+    /**
+     * @return The OffscreenRenderer that frames are rendered with, or null if no frames have been rendered.
+     */
+    public OffscreenRenderer getOffscreenRenderer() {
+        return offscreen_renderer;
+    }
+
+    /**
+     * @return The amount of ticks that were ran per second of real time during the last run().
+     */
+    public double getTicksPerSecond() {
+        return (elapsed_nanos > 0) ? last_run_ticks / (elapsed_nanos / 1e9) : 0;
+    }
+
+    /**
+     * @return The amount of the application's time that has passed in milliseconds, according to the VirtualClock.
+     */
+    public long getSimulatedMillis() {
+        return clock.getMillis();
+    }
+}
@@ -0,0 +1,94 @@
+package fundamentals.appbase;
+
+import java.util.Arrays;
+
+/**
+ * Used to keep a rolling window of how long a phase of each tick or frame took, such as running mechanics or rendering, and to report
+ * the window's minimum, average, and percentiles. Moreover, once the window is full, each new sample replaces the oldest sample.
+ *
+ * @see
+ * Note: Samples can be recorded from one thread while statistics are read from another, such as when ticks are timed on the tick thread
+ * and displayed by the render thread.
+ */
+public class PhaseTimer
+{
+    private final String name;
+    private final long[] samples;
+    private final long[] sorted_samples;
+    private int next_sample = 0;
+    private int sample_count = 0;
+
+    /**
+     * Used to keep a rolling window of how long a phase of each tick or frame took.
+     *
+     * @param name (String) : The specified name of the phase.
+     * @param window_size (int) : The specified positive amount of samples kept within the window.
+     */
+    public PhaseTimer(String name, int window_size) {
+        this.name = name;
+        samples = new long[Math.max(window_size, 1)];
+        sorted_samples = new long[samples.length];
+    }
+
+    /**
+     * Used to add a sample to the window, replacing the oldest sample once the window is full.
+     * @param nanos (long) : The specified time that the phase took. Unit of measurement: Nanoseconds.
+     */
+    public synchronized void record(long nanos) {
+        samples[next_sample] = nanos;
+        next_sample = (next_sample + 1 < samples.length) ? next_sample + 1 : 0;
+        sample_count = Math.min(sample_count + 1, samples.length);
+    }
+
+    /**
+     * @return The shortest sample within the window, or zero if there are no samples. Unit of measurement: Nanoseconds.
+     */
+    public synchronized long getMinNanos() {
+        long min_nanos = (sample_count > 0) ? Long.MAX_VALUE : 0;
+        for(int i = 0; i < sample_count; i++) {
+            min_nanos = Math.min(min_nanos, samples[i]);
+        }
+        return min_nanos;
+    }
+
+    /**
+     * @return The average of the samples within the window, or zero if there are no samples. Unit of measurement: Nanoseconds.
+     */
+    public synchronized long getAverageNanos() {
+        long total_nanos = 0;
+        for(int i = 0; i < sample_count; i++) {
+            total_nanos += samples[i];
+        }
+        return (sample_count > 0) ? total_nanos / sample_count : 0;
+    }
+
+    /**
+     * @param pct (double) : The specified percentile that is represented as a decimal within the interval: [0, 1], such as 0.99.
+     * @return The sample at the percentile passed in, or zero if there are no samples. Unit of measurement: Nanoseconds.
+     */
+    public synchronized long getPercentileNanos(double pct) {
+        if(sample_count == 0) {
+            return 0;
+        }
+
+        System.arraycopy(samples, 0, sorted_samples, 0, sample_count);
+        Arrays.sort(sorted_samples, 0, sample_count);
+        int index = (int)Math.ceil(pct * sample_count) - 1;
+        return sorted_samples[Math.min(Math.max(index, 0), sample_count - 1)];
+    }
+
+    /**
+     * Removes every sample from the window.
+     */
+    public synchronized void reset() {
+        next_sample = 0;
+        sample_count = 0;
+    }
+
+    /**
+     * @return The name of the phase.
+     */
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,22 @@
+package fundamentals.clock;
+
+/**
+ * Clock is the interface for every source of engine time. Moreover, the MechanicScheduler, every mechanic, and every animation read the time 
+ * from the engine's Clock rather than from the wall-clock, so the engine's time can run in real time, be paused or scaled, or be stepped manually.
+ * 
+ * @see Clock Implementations: RealTimeClock, ScaledClock, and VirtualClock.
+ */
+public interface Clock 
+{
+    /**
+     * @return The amount of time that has passed since the clock started in nanoseconds. 
+     */
+    public long getNanos();
+
+    /**
+     * @return The amount of time that has passed since the clock started in milliseconds. 
+     */
+    public default long getMillis() {
+        return getNanos() / 1000000;
+    }
+}
@@ -0,0 +1,15 @@
+package fundamentals.clock;
+
+/**
+ * A Clock that runs in real time, measured with System.nanoTime(). Moreover, unlike the wall-clock, System.nanoTime() never jumps when
+ * the system's time is changed.
+ */
+public class RealTimeClock implements Clock
+{
+    private final long start_nanos = System.nanoTime();
+
+    @Override
+    public long getNanos() {
+        return System.nanoTime() - start_nanos;
+    }
+}
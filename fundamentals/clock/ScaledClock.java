@@ -0,0 +1,86 @@
+package fundamentals.clock;
+
+/**
+ * A Clock that follows another Clock at an adjustable scale, and that can be paused and resumed. Moreover, a scale of 2 runs twice as fast
+ * as the Clock it follows, and a scale of 0.5 runs at half speed; this is useful for slow motion, fast-forwarding, and pausing an application.
+ * 
+ * @see
+ * Note: Changing the scale or pausing never makes the time jump; the time only runs at a different rate from that point onward.
+ */
+public class ScaledClock implements Clock
+{
+    private final Clock source_clock;
+    private long anchor_source_nanos = 0;
+    private long anchor_nanos = 0;
+    private double scale = 1;
+    private boolean paused = false;
+
+    /**
+     * A Clock that follows another Clock at an adjustable scale, and that can be paused and resumed.
+     * @param source_clock (Clock) : The specified Clock to follow, such as a RealTimeClock.
+     */
+    public ScaledClock(Clock source_clock) {
+        this.source_clock = source_clock;
+        anchor_source_nanos = source_clock.getNanos();
+    }
+
+    @Override
+    public synchronized long getNanos() {
+        if(paused) {
+            return anchor_nanos;
+        }
+
+        return anchor_nanos + (long)((source_clock.getNanos() - anchor_source_nanos) * scale);
+    }
+
+    /**
+     * Restarts the scaled time from the current time, so that the time passed so far is kept when the scale or pause state changes.
+     */
+    private void reanchor() {
+        anchor_nanos = getNanos();
+        anchor_source_nanos = source_clock.getNanos();
+    }
+
+    /**
+     * Used to set how fast the clock runs relative to the Clock it follows.
+     * @param scale (double) : The specified unsigned scale; 1 runs at the same rate.
+     */
+    public synchronized void setScale(double scale) {
+        reanchor();
+        this.scale = Math.max(scale, 0);
+    }
+
+    /**
+     * @return How fast the clock runs relative to the Clock it follows.
+     */
+    public synchronized double getScale() {
+        return scale;
+    }
+
+    /**
+     * Stops the clock's time until it's resumed.
+     */
+    public synchronized void pause() {
+        if(!paused) {
+            reanchor();
+            paused = true;
+        }
+    }
+
+    /**
+     * Resumes the clock's time from where it was paused.
+     */
+    public synchronized void resume() {
+        if(paused) {
+            anchor_source_nanos = source_clock.getNanos();
+            paused = false;
+        }
+    }
+
+    /**
+     * @return Whether or not the clock is paused.
+     */
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+}
@@ -0,0 +1,40 @@
+package fundamentals.clock;
+
+/**
+ * A Clock whose time only moves when it's manually advanced. Moreover, a headless simulation can advance the clock by exactly one tick's
+ * step before running each tick, letting it run as many ticks per second as the CPU allows while every mechanic still sees the time passing
+ * at the normal rate; this is useful for batch runs and for tests that must behave the same way every time.
+ */
+public class VirtualClock implements Clock
+{
+    private volatile long nanos = 0;
+
+    @Override
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Moves the clock's time forward.
+     * @param nanos (long) : The unsigned amount of time in nanoseconds.
+     */
+    public synchronized void advanceNanos(long nanos) {
+        this.nanos += Math.max(nanos, 0);
+    }
+
+    /**
+     * Moves the clock's time forward.
+     * @param millis (long) : The unsigned amount of time in milliseconds.
+     */
+    public void advanceMillis(long millis) {
+        advanceNanos(Math.max(millis, 0) * 1000000);
+    }
+
+    /**
+     * Used to set the clock's time, which may move it backward.
+     * @param nanos (long) : The specified time in nanoseconds.
+     */
+    public synchronized void setNanos(long nanos) {
+        this.nanos = nanos;
+    }
+}
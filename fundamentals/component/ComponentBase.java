@@ -23,6 +23,11 @@ public class ComponentBase implements ComponentInterface
     private Animation current_animation = new Animation("");
     private Coordinates coordinates = new Coordinates(0, 0, 0);
     private double opacity_pct = 1.0;
+    private int layer = 0;
+    private int z_order = 0;
+    // The coordinates that the component was last captured at by a RenderSnapshot, which the next snapshot interpolates from:
+    int captured_x, captured_y, captured_degrees;
+    long captured_tick = Long.MIN_VALUE;
     private boolean active = false;
 
     @Override
@@ -83,6 +88,44 @@ public class ComponentBase implements ComponentInterface
         return opacity_pct;
     }
 
+    /**
+     * Used to set the layer that the component is drawn on. Components on higher layers are always drawn over components on lower layers.
+     * @param layer (int) : The specified layer; every component is on layer 0 unless set otherwise.
+     */
+    public void setLayer(int layer) {
+        if(this.layer != layer) {
+            this.layer = layer;
+            ComponentRegistry.invalidateDrawOrder();
+        }
+    }
+
+    /**
+     * @return The layer that the component is drawn on. 
+     */
+    public int getLayer() {
+        return layer;
+    }
+
+    /**
+     * Used to set the component's z-order within its layer. Components with a higher z-order are drawn over components on the same layer with
+     * a lower z-order, and components with the same z-order are drawn in the order they were registered in.
+     * 
+     * @param z_order (int) : The specified z-order; every component has a z-order of 0 unless set otherwise.
+     */
+    public void setZOrder(int z_order) {
+        if(this.z_order != z_order) {
+            this.z_order = z_order;
+            ComponentRegistry.invalidateDrawOrder();
+        }
+    }
+
+    /**
+     * @return The component's z-order within its layer. 
+     */
+    public int getZOrder() {
+        return z_order;
+    }
+
     /**
      * Toggles the component's activity to either be enabled or disabled.
      * @param active (boolean) : The specified new toggled active state for the controller.
@@ -126,6 +169,13 @@ public class ComponentBase implements ComponentInterface
         return current_animation.getAnimation();
     }
 
+    /**
+     * @return The Animation instance that the component is currently using.
+     */
+    public Animation getCurrentAnimation() {
+        return current_animation;
+    }
+
     /**
      * @return An the width of the animation/image that the component is currently using. 
      * @see Unit of measurement: Pixels.
@@ -142,6 +192,40 @@ public class ComponentBase implements ComponentInterface
         return current_animation.getImageHeight();
     }
 
+    /**
+     * @return The on-screen bounds that the component's image currently covers, including its rotation.
+     * 
+     * @see
+     * Note: The bounds are the smallest rectangle that fits the rotated image, padded by a pixel on every side so that
+     * smoothed edges and pre-rotated copies that are rounded to whole pixels are always covered.
+     */
+    public Rectangle getScreenBounds() {
+        return getScreenBounds(new Rectangle());
+    }
+
+    /**
+     * Sets the Rectangle passed in to the on-screen bounds that the component's image currently covers, including its rotation.
+     * @param bounds (Rectangle) : The specified Rectangle to set.
+     * @return The Rectangle passed in.
+     */
+    public Rectangle getScreenBounds(Rectangle bounds) {
+        return getScreenBounds(bounds, coordinates.getX(), coordinates.getY(), coordinates.getDegrees(), getWidth(), getHeight());
+    }
+
+    /**
+     * Sets the Rectangle passed in to the on-screen bounds that an image of the width and height passed in covers when it's centered on
+     * the coordinates passed in, and rotated by the degrees passed in.
+     */
+    static Rectangle getScreenBounds(Rectangle bounds, int x, int y, int degrees, int image_width, int image_height) {
+        double radians = Math.toRadians(degrees);
+        double cos = Math.abs(Math.cos(radians));
+        double sin = Math.abs(Math.sin(radians));
+        int width = (int)Math.ceil(image_width * cos + image_height * sin) + 2;
+        int height = (int)Math.ceil(image_width * sin + image_height * cos) + 2;
+        bounds.setBounds(x - (width / 2) - 1, y - (height / 2) - 1, width + 2, height + 2);
+        return bounds;
+    }
+
     /**
      * @return The activity status of the component. 
      */
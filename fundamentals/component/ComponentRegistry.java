@@ -1,5 +1,7 @@
 package fundamentals.component;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.LinkedList;
 
 /**
@@ -9,10 +11,17 @@ import java.util.LinkedList;
  * Moreover, GraphicsRenderer will always have access to all "registered" Component instances so that any changes that 
  * occur to any instance, such as updated coordinates or image, will immediately be reflected
  * on-screen when components are toggled to be active. 
+ * 
+ * @see
+ * Note: Components are drawn in order of their layer, then their z-order within that layer, then the order they were registered in.
+ * The sorted order is kept in an array that is only re-sorted after a Component is registered or removed, or changes its layer or z-order.
  */
 public class ComponentRegistry 
 {
     private static LinkedList<ComponentBase> components = new LinkedList<ComponentBase>();
+    private static final Comparator<ComponentBase> DRAW_ORDER = Comparator.comparingInt(ComponentBase::getLayer).thenComparingInt(ComponentBase::getZOrder);
+    private static ComponentBase[] sorted_components = new ComponentBase[0];
+    private static boolean sorted = true;
    
     /**
     * Allows the Component instance passed in to be accessible by the ComponentRegistry so that GraphicsRenderer can display all
@@ -21,7 +30,7 @@ public class ComponentRegistry
     * @see This method is called by a Component's superclass method, addRequirements(...). Therefore requiring
     * addRequirements(...) to be called by every Component to function appropriately. 
     */
-    protected static void registerComponent(ComponentBase component) {
+    protected static synchronized void registerComponent(ComponentBase component) {
         for(var comp : components) {
             if(component != null && comp == component) {
                 return;   
@@ -29,17 +38,38 @@ public class ComponentRegistry
         }
 
         components.addLast(component);
+        sorted = false;
     }
 
     /**
      * Removes the Component passed in from the ComponentRegistry's list of registered Components.
      */
-    public static void removeComponent(ComponentBase component) {
-        for(var comp : components) {
-            if(comp == component) {
-                components.remove(comp);
-            }
+    public static synchronized void removeComponent(ComponentBase component) {
+        if(components.remove(component)) {
+            sorted = false;
+        }
+    }
+
+    /**
+     * Flags the draw order to be re-sorted the next time it's needed. Moreover, this is called whenever a Component's layer or z-order changes.
+     */
+    protected static synchronized void invalidateDrawOrder() {
+        sorted = false;
+    }
+
+    /**
+     * @return An array of the ComponentRegistry's registered Components in the order they should be drawn; from the bottom layer to the top.
+     * @see The array is shared between calls until the draw order changes, so it must not be modified.
+     */
+    public static synchronized ComponentBase[] getSortedComponents() {
+        if(!sorted) {
+            // The sort is stable, so Components with the same layer and z-order keep the order they were registered in:
+            sorted_components = components.toArray(new ComponentBase[components.size()]);
+            Arrays.sort(sorted_components, DRAW_ORDER);
+            sorted = true;
         }
+
+        return sorted_components;
     }
 
     /**
@@ -0,0 +1,260 @@
+package fundamentals.component;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+
+import fundamentals.Coordinates;
+import fundamentals.animation.Animation;
+
+/**
+ * A compact copy of everything needed to render every active component at the end of a single tick; each component's ID, Animation,
+ * coordinates, opacity, layer, z-order, image dimensions, and on-screen bounds. Moreover, the renderer only ever reads snapshots, so it never
+ * touches a component while the tick thread is changing it.
+ *
+ * @see
+ * Note: Each snapshot also keeps every component's coordinates from the previous tick, so that the renderer can interpolate between the last two
+ * ticks when ticks run at a fixed step. A component's bounds then cover both its previous and current bounds, and every angle in between.
+ *
+ * @see
+ * Note: Snapshots are reused by RenderSnapshotBuffer. A snapshot is only captured while it's owned by the tick thread, and is never changed
+ * while it's owned by the renderer; entries are kept in draw order.
+ */
+public class RenderSnapshot
+{
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long tick = 0;
+    private long capture_nanos = 0;
+    private long step_nanos = 0;
+    private int size = 0;
+    private double[] ids = new double[INITIAL_CAPACITY];
+    private Animation[] animations = new Animation[INITIAL_CAPACITY];
+    private int[] xs = new int[INITIAL_CAPACITY];
+    private int[] ys = new int[INITIAL_CAPACITY];
+    private int[] degrees = new int[INITIAL_CAPACITY];
+    private int[] previous_xs = new int[INITIAL_CAPACITY];
+    private int[] previous_ys = new int[INITIAL_CAPACITY];
+    private int[] previous_degrees = new int[INITIAL_CAPACITY];
+    private float[] opacities = new float[INITIAL_CAPACITY];
+    private int[] layers = new int[INITIAL_CAPACITY];
+    private int[] z_orders = new int[INITIAL_CAPACITY];
+    private int[] widths = new int[INITIAL_CAPACITY];
+    private int[] heights = new int[INITIAL_CAPACITY];
+    private Rectangle[] bounds = new Rectangle[INITIAL_CAPACITY];
+    private Rectangle previous_bounds = new Rectangle();
+
+    /**
+     * Captures every active component passed in, in the order passed in.
+     * @param components (ComponentBase[]) : The specified components in draw order.
+     * @param tick (long) : The specified tick that the snapshot is captured at.
+     * @param step_nanos (long) : The specified fixed step between ticks, or zero if ticks should not be interpolated between.
+     */
+    protected void capture(ComponentBase[] components, long tick, long step_nanos) {
+        this.tick = tick;
+        this.step_nanos = step_nanos;
+        capture_nanos = System.nanoTime();
+        size = 0;
+        ensureCapacity(components.length);
+        for(var comp : components) {
+            if(!comp.getActivity()) {
+                continue;
+            }
+
+            Coordinates coordinates = comp.getCoordinates();
+            ids[size] = comp.getComponentID();
+            animations[size] = comp.getCurrentAnimation();
+            xs[size] = coordinates.getX();
+            ys[size] = coordinates.getY();
+            degrees[size] = coordinates.getDegrees();
+            opacities[size] = (float)comp.getOpacity();
+            layers[size] = comp.getLayer();
+            z_orders[size] = comp.getZOrder();
+            widths[size] = comp.getWidth();
+            heights[size] = comp.getHeight();
+            if(bounds[size] == null) {
+                bounds[size] = new Rectangle();
+            }
+            comp.getScreenBounds(bounds[size]);
+
+            // Components that were not captured during the previous tick have nothing to interpolate from:
+            if(comp.captured_tick != tick - 1) {
+                comp.captured_x = xs[size];
+                comp.captured_y = ys[size];
+                comp.captured_degrees = degrees[size];
+            }
+            previous_xs[size] = comp.captured_x;
+            previous_ys[size] = comp.captured_y;
+            previous_degrees[size] = comp.captured_degrees;
+            if(previous_degrees[size] != degrees[size]) {
+                // Rotating between the two angles may pass through wider angles, so both bounds are widened to fit every angle:
+                int diagonal = (int)Math.ceil(Math.sqrt((double)widths[size] * widths[size] + (double)heights[size] * heights[size]));
+                ComponentBase.getScreenBounds(bounds[size], xs[size], ys[size], 0, diagonal, diagonal);
+                ComponentBase.getScreenBounds(previous_bounds, previous_xs[size], previous_ys[size], 0, diagonal, diagonal);
+                bounds[size].add(previous_bounds);
+            }
+            else if(previous_xs[size] != xs[size] || previous_ys[size] != ys[size]) {
+                ComponentBase.getScreenBounds(previous_bounds, previous_xs[size], previous_ys[size], degrees[size], widths[size], heights[size]);
+                bounds[size].add(previous_bounds);
+            }
+
+            comp.captured_x = xs[size];
+            comp.captured_y = ys[size];
+            comp.captured_degrees = degrees[size];
+            comp.captured_tick = tick;
+            size++;
+        }
+
+        // Release Animations that are no longer captured:
+        Arrays.fill(animations, size, animations.length, null);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if(capacity <= ids.length) {
+            return;
+        }
+
+        int new_capacity = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, new_capacity);
+        animations = Arrays.copyOf(animations, new_capacity);
+        xs = Arrays.copyOf(xs, new_capacity);
+        ys = Arrays.copyOf(ys, new_capacity);
+        degrees = Arrays.copyOf(degrees, new_capacity);
+        previous_xs = Arrays.copyOf(previous_xs, new_capacity);
+        previous_ys = Arrays.copyOf(previous_ys, new_capacity);
+        previous_degrees = Arrays.copyOf(previous_degrees, new_capacity);
+        opacities = Arrays.copyOf(opacities, new_capacity);
+        layers = Arrays.copyOf(layers, new_capacity);
+        z_orders = Arrays.copyOf(z_orders, new_capacity);
+        widths = Arrays.copyOf(widths, new_capacity);
+        heights = Arrays.copyOf(heights, new_capacity);
+        bounds = Arrays.copyOf(bounds, new_capacity);
+    }
+
+    /**
+     * @return The tick that the snapshot was captured at.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Used to get how far the renderer is between the previous tick and the tick that the snapshot was captured at.
+     * @param nanos (long) : The specified current System.nanoTime().
+     * @return The interpolation factor within the interval: [0, 1]; always 1 if ticks are not interpolated between.
+     */
+    public double getInterpolationAlpha(long nanos) {
+        if(step_nanos <= 0) {
+            return 1;
+        }
+
+        return Math.min(Math.max((double)(nanos - capture_nanos) / step_nanos, 0), 1);
+    }
+
+    /**
+     * @return The amount of components within the snapshot.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public double getComponentID(int index) {
+        return ids[index];
+    }
+
+    public Animation getAnimation(int index) {
+        return animations[index];
+    }
+
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    public int getY(int index) {
+        return ys[index];
+    }
+
+    public int getDegrees(int index) {
+        return degrees[index];
+    }
+
+    /**
+     * @return The component's x coordinate during the previous tick.
+     */
+    public int getPreviousX(int index) {
+        return previous_xs[index];
+    }
+
+    /**
+     * @return The component's y coordinate during the previous tick.
+     */
+    public int getPreviousY(int index) {
+        return previous_ys[index];
+    }
+
+    /**
+     * @return The component's degrees during the previous tick.
+     */
+    public int getPreviousDegrees(int index) {
+        return previous_degrees[index];
+    }
+
+    /**
+     * @return The component's x coordinate interpolated between the previous tick and the snapshot's tick.
+     * @param alpha (double) : The specified interpolation factor from getInterpolationAlpha(long nanos).
+     */
+    public int getX(int index, double alpha) {
+        return previous_xs[index] + (int)Math.round((xs[index] - previous_xs[index]) * alpha);
+    }
+
+    /**
+     * @return The component's y coordinate interpolated between the previous tick and the snapshot's tick.
+     * @param alpha (double) : The specified interpolation factor from getInterpolationAlpha(long nanos).
+     */
+    public int getY(int index, double alpha) {
+        return previous_ys[index] + (int)Math.round((ys[index] - previous_ys[index]) * alpha);
+    }
+
+    /**
+     * @return The component's degrees interpolated the short way around between the previous tick and the snapshot's tick.
+     * @param alpha (double) : The specified interpolation factor from getInterpolationAlpha(long nanos).
+     */
+    public int getDegrees(int index, double alpha) {
+        int delta_degrees = Math.floorMod(degrees[index] - previous_degrees[index] + 180, 360) - 180;
+        return previous_degrees[index] + (int)Math.round(delta_degrees * alpha);
+    }
+
+    public float getOpacity(int index) {
+        return opacities[index];
+    }
+
+    public int getLayer(int index) {
+        return layers[index];
+    }
+
+    public int getZOrder(int index) {
+        return z_orders[index];
+    }
+
+    /**
+     * @return The width of the component's image. Unit of measurement: Pixels.
+     */
+    public int getWidth(int index) {
+        return widths[index];
+    }
+
+    /**
+     * @return The height of the component's image. Unit of measurement: Pixels.
+     */
+    public int getHeight(int index) {
+        return heights[index];
+    }
+
+    /**
+     * @return The on-screen bounds that the component's image covers, including its rotation, at any point between the previous tick and
+     * the snapshot's tick.
+     * @see The Rectangle belongs to the snapshot, so it must not be modified.
+     */
+    public Rectangle getBounds(int index) {
+        return bounds[index];
+    }
+}
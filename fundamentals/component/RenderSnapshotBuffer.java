@@ -0,0 +1,61 @@
+package fundamentals.component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lock-free triple buffer of RenderSnapshots, which lets the tick thread publish a new snapshot at the end of every tick while the renderer
+ * draws the most recently published one. Moreover, the tick thread and the renderer never wait on one another; the tick thread always has a
+ * snapshot to capture into, and the renderer always has a complete snapshot to draw.
+ *
+ * @see
+ * Note: One snapshot is owned by the tick thread, one by the renderer, and the third is the most recently published snapshot. Publishing swaps
+ * the tick thread's snapshot with the published one, and acquiring swaps the renderer's snapshot with the published one if it is newer. Snapshots
+ * that the renderer was too slow to acquire are simply replaced.
+ */
+public class RenderSnapshotBuffer
+{
+    private static final int FRESH = 0b100;
+    private static final int INDEX = 0b011;
+    private static RenderSnapshotBuffer render_snapshot_buffer = new RenderSnapshotBuffer();
+
+    private final RenderSnapshot[] snapshots = {new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()};
+    // The index of the published snapshot, along with whether it's newer than the renderer's snapshot:
+    private final AtomicInteger published = new AtomicInteger(2);
+    private int back_index = 0;
+    private int front_index = 1;
+    private long tick = 0;
+    private volatile long step_nanos = 0;
+
+    /**
+     * Captures every registered component into a snapshot and publishes it to the renderer. Must only be called from the tick thread,
+     * at the end of each tick.
+     */
+    public void publish() {
+        snapshots[back_index].capture(ComponentRegistry.getSortedComponents(), tick++, step_nanos);
+        back_index = published.getAndSet(back_index | FRESH) & INDEX;
+    }
+
+    /**
+     * Must only be called from the renderer.
+     * @return The most recently published snapshot. The same snapshot is returned until a newer one has been published.
+     */
+    public RenderSnapshot acquire() {
+        if((published.get() & FRESH) != 0) {
+            front_index = published.getAndSet(front_index) & INDEX;
+        }
+
+        return snapshots[front_index];
+    }
+
+    /**
+     * Used to set the fixed step between ticks, which lets the renderer interpolate between the last two ticks.
+     * @param step_nanos (long) : The specified step in nanoseconds, or zero if ticks do not run at a fixed step and should not be interpolated between.
+     */
+    public void setInterpolationStepNanos(long step_nanos) {
+        this.step_nanos = Math.max(step_nanos, 0);
+    }
+
+    public static RenderSnapshotBuffer getInstance() {
+        return render_snapshot_buffer;
+    }
+}
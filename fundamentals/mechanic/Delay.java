@@ -1,18 +1,19 @@
 package fundamentals.mechanic;
 
-import fundamentals.appbase.AppBase;
-
 /**
  * A mechanic that when scheduled, runs for a period of milliseconds while periodically and consecutively scheduling another mechanic
  * on a loop during the idle period. 
  * 
  * @see Note: This mechanic is most useful when used within a SequentialMechanicGroup, causing delay between other sequentially scheduled
  * mechanics used within the group. 
+ * 
+ * @see Note: A Delay is parked until its period ends rather than checking whether it's finished every millisecond, along with the mechanic 
+ * group it's used within, so the idle mechanic is only initialized once the period begins and ended once it ends.
  */
 public class Delay extends MechanicBase
 {
     private double millis = 0;
-    private double initial_millis = 0;
+    private long initial_millis = 0;
     private InstantMechanic idle_mechanic = null;
 
     /**
@@ -34,7 +35,7 @@ public class Delay extends MechanicBase
 
     @Override
     public void initialize() {
-        initial_millis = AppBase.getMillis();
+        initial_millis = getClock().getMillis();
         idle_mechanic.initialize();
     }
 
@@ -50,6 +51,11 @@ public class Delay extends MechanicBase
 
     @Override
     public boolean isFinished() {   
-        return AppBase.getMillis() - initial_millis >= millis;
+        return getClock().getMillis() - initial_millis >= millis;
+    }
+
+    @Override
+    public long getWakeMillis() {
+        return initial_millis + (long)Math.ceil(millis);
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package fundamentals.mechanic;
 
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
+import fundamentals.clock.Clock;
 import fundamentals.component.ComponentBase;
 
 /**
@@ -15,11 +17,36 @@ import fundamentals.component.ComponentBase;
  */
 public class MechanicBase implements MechanicInterface
 {
+    /**
+     * The access mode of a required component that the mechanic only reads, such as a camera following a component's coordinates. 
+     * Any amount of mechanics may read a component while another mechanic writes it.
+     */
+    public static final int READ_ACCESS = 0;
+    /**
+     * The access mode of a required component that the mechanic changes. Only a single mechanic may write a component at a time.
+     */
+    public static final int WRITE_ACCESS = 1;
+
     private LinkedList<ComponentBase> components = new LinkedList<ComponentBase>();
+    // The required components that are only read, rather than written:
+    private LinkedList<ComponentBase> read_components = new LinkedList<ComponentBase>();
+    // The access mode of every required component, so that looking up a component's access mode takes constant time:
+    private IdentityHashMap<ComponentBase, Integer> access_modes = new IdentityHashMap<ComponentBase, Integer>();
     public boolean is_scheduled = false; 
     public boolean is_initialized = false;
-    public int initial_periodic_millis = 0;
+    public long initial_periodic_millis = 0;
     private int executional_periodic_delay_millis = 0; 
+    private Clock clock = null;
+    private boolean thread_safe = true;
+    // The index of the handle that the mechanic is currently scheduled under by the MechanicScheduler, if any:
+    int handle_index = -1;
+    // The mechanic's place within the MechanicScheduler's TimingWheel while it's parked:
+    MechanicBase wheel_next = null;
+    MechanicBase wheel_previous = null;
+    int wheel_bucket = -1;
+    long wheel_deadline_millis = 0;
+    // The mechanic's index within the MechanicScheduler's batch of mechanics that are executed in parallel, if any:
+    int batch_index = -1;
 
     @Override public void initialize() {}
     @Override public void execute() {}
@@ -34,11 +61,26 @@ public class MechanicBase implements MechanicInterface
     public void addRequirements(ComponentBase... components) {
         if(components.length != 0 && components[0].getClass().getSuperclass().getName() == ComponentBase.class.getName()) {
             for(var comp : components) {
-                this.components.add(comp);
+                addRequirement(WRITE_ACCESS, comp);
             }
         }
     }
 
+    /**
+     * Adds the components passed in as requirements that are accessed with the access mode passed in. Moreover, a mechanic that only
+     * reads a component doesn't cancel the mechanic that writes it, nor is it canceled by that mechanic; only mechanics that write the
+     * same component cancel each other.
+     *
+     * @param access_mode (int) : The specified access mode; either MechanicBase.READ_ACCESS or MechanicBase.WRITE_ACCESS.
+     * @param components (ComponentBase...) : The specified variable-argument components.
+     * @see A component that's required with both access modes is written.
+     */
+    public void addRequirements(int access_mode, ComponentBase... components) {
+        for(var component : components) {
+            addRequirement(access_mode, component);
+        }
+    }
+
     /**
      * Once MechanicBase has been extended and become a superclass to a subclass, the subclass must call 
      * this method in order for the subclass to appropriately function as a app mechanic. Moreover, any components 
@@ -46,14 +88,63 @@ public class MechanicBase implements MechanicInterface
      */
     public void addRequirements(LinkedList<ComponentBase> components) {
         for(var component : components) {
-            this.components.add(component);
+            addRequirement(WRITE_ACCESS, component);
+        }
+    }
+
+    private void addRequirement(int access_mode, ComponentBase component) {
+        Integer previous_access_mode = access_modes.get(component);
+        if(previous_access_mode == null) {
+            components.add(component);
+            access_modes.put(component, access_mode);
+            if(access_mode == READ_ACCESS) {
+                read_components.add(component);
+            }
+        }
+        else if(previous_access_mode == READ_ACCESS && access_mode == WRITE_ACCESS) {
+            access_modes.put(component, WRITE_ACCESS);
+            read_components.remove(component);
         }
     }
 
+    /**
+     * @return Every component that the mechanic requires, regardless of access mode.
+     */
     public LinkedList<ComponentBase> getRequiredComponents() {
         return components;
     }
 
+    /**
+     * @return The required components that the mechanic only reads.
+     */
+    public LinkedList<ComponentBase> getReadComponents() {
+        return read_components;
+    }
+
+    /**
+     * @return The access mode that the specified required component is accessed with; either MechanicBase.READ_ACCESS or 
+     * MechanicBase.WRITE_ACCESS.
+     */
+    public int getAccessMode(ComponentBase component) {
+        Integer access_mode = access_modes.get(component);
+        return (access_mode != null) ? access_mode : WRITE_ACCESS;
+    }
+
+    /**
+     * Used to set the Clock that the mechanic's timing is measured with, rather than the MechanicScheduler's Clock.
+     * @param clock (Clock) : The specified Clock, or null to use the MechanicScheduler's Clock.
+     */
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @return The Clock that the mechanic's timing is measured with; the MechanicScheduler's Clock unless another Clock has been set.
+     */
+    public Clock getClock() {
+        return (clock != null) ? clock : MechanicScheduler.getInstance().getClock();
+    }
+
     /**
      * The execute() method is continuously called once a mechanic is scheduled, and so this method 
      * is used to determine how often the execute() method should be called. 
@@ -71,4 +162,35 @@ public class MechanicBase implements MechanicInterface
     public int getExecutionalPeriodicDelay() {
         return executional_periodic_delay_millis;
     }
+
+    /**
+     * Used to mark whether or not the mechanic's execute() method may be called from any thread when the MechanicScheduler executes mechanics
+     * in parallel. Mechanics that change state outside of their required components, such as audio, GUIs, or other mechanics, should be
+     * marked as not thread-safe, and are then always executed on the tick thread.
+     * 
+     * @param thread_safe (boolean) : Whether or not execute() may be called from any thread.
+     */
+    public void setThreadSafe(boolean thread_safe) {
+        this.thread_safe = thread_safe;
+    }
+
+    /**
+     * @return Whether or not the mechanic's execute() method may be called from any thread.
+     */
+    public boolean isThreadSafe() {
+        return thread_safe;
+    }
+
+    /**
+     * Used by the MechanicScheduler to park an initialized mechanic, so that the mechanic costs nothing until it needs to run again. Moreover, 
+     * a parked mechanic is neither executed nor checked for whether it's finished until this time is reached.
+     * 
+     * @return The time, according to the mechanic's Clock, at which the mechanic next needs to run; by default, the time at which execute() 
+     * is next called. Unit of measurement: Milliseconds.
+     * @see Mechanics whose ending condition does not only depend on time should keep their executional periodic delay short, since they can 
+     * only end once they run.
+     */
+    public long getWakeMillis() {
+        return initial_periodic_millis + executional_periodic_delay_millis;
+    }
 }
\ No newline at end of file
@@ -1,56 +1,248 @@
 package fundamentals.mechanic;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
-import fundamentals.appbase.AppBase;
+import fundamentals.Constants;
+import fundamentals.clock.Clock;
+import fundamentals.clock.RealTimeClock;
 import fundamentals.component.ComponentBase;
 
 /**
- * Manages all mechanic variables through means of static methods. All types of mechanics inherit MechanicBase methods, regardless 
- * of the type of mechanic. Moreover, each mechanic scheduled when calling a mechanic's superclass method, schedule(), will 
- * "register" the mechanic with the MechanicScheduler either until the mechanic is interrupted, or has its ending condition met 
+ * Manages all mechanic variables through means of static methods. All types of mechanics inherit MechanicBase methods, regardless
+ * of the type of mechanic. Moreover, each mechanic scheduled when calling a mechanic's superclass method, schedule(), will
+ * "register" the mechanic with the MechanicScheduler either until the mechanic is interrupted, or has its ending condition met
  * and the mechanic naturally ends. Lastly, all registered mechanics will be ran by the MechanicScheduler until the mechanic somehow ends,
- * allowing it to be de-registered. 
+ * allowing it to be de-registered.
+ *
+ * @see
+ * Note: Every mechanic's timing is measured with the MechanicScheduler's Clock, which runs in real time unless another Clock is set with
+ * setClock(Clock clock), such as a VirtualClock for running faster than real time.
+ *
+ * @see
+ * Note: Every component written by a scheduled mechanic is mapped to that mechanic, so scheduling a mechanic only looks up the owners of its
+ * own written components to find the mechanics it conflicts with, rather than comparing against every scheduled mechanic's requirements.
+ * Components that are only read never conflict; see MechanicBase.READ_ACCESS.
+ *
+ * @see
+ * Note: Scheduled mechanics are kept densely packed within an array; a mechanic that ends is replaced by the last scheduled mechanic, so
+ * mechanics do not run in the order they were scheduled. Each scheduling is identified by a handle, which stays valid until that scheduling
+ * ends, even if the mechanic is scheduled again afterwards. Mechanics that are scheduled or canceled while runMechanics() is running are
+ * queued, and are scheduled or canceled in the same order once every mechanic has ran.
+ *
+ * @see
+ * Note: A mechanic that won't need to run again until a later time, such as one with an executional periodic delay or a Delay, is parked
+ * within a TimingWheel until that time, and costs nothing while it's parked; each tick only runs the mechanics that are due. See
+ * MechanicBase.getWakeMillis().
+ *
+ * @see
+ * Note: When Constants.WINDOW_CHARACTERISTICS.PARALLEL_MECHANICS is enabled, due mechanics are executed in parallel; see 
+ * setParallelEnabled(boolean enabled). Mechanics may be scheduled and canceled from any thread while they execute, since schedules and 
+ * cancels are queued until every mechanic has ran.
  */
-public class MechanicScheduler 
+public class MechanicScheduler
 {
-    private LinkedList<MechanicBase> mechanics = new LinkedList<MechanicBase>();
-    private LinkedList<ComponentBase> components = new LinkedList<ComponentBase>();
-    private LinkedList<Function<Void, Void>> events = new LinkedList<Function<Void, Void>>();
-    private static MechanicScheduler scheduler = new MechanicScheduler();
+    /**
+     * The handle returned when a mechanic could not be scheduled, which is never valid.
+     */
+    public static final long INVALID_HANDLE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int FREE_SLOT = -1;
+    private static final int PENDING_SLOT = -2;
+    private static final int PARKED_SLOT = -3;
+    private static final int SCHEDULE_COMMAND = 0;
+    private static final int CANCEL_HANDLE_COMMAND = 1;
+    private static final int CANCEL_MECHANIC_COMMAND = 2;
+    private static final int CANCEL_ALL_COMMAND = 3;
+
+    // Scheduled mechanics, densely packed, along with the handle index of each slot:
+    private MechanicBase[] mechanics = new MechanicBase[INITIAL_CAPACITY];
+    private int[] slot_handles = new int[INITIAL_CAPACITY];
+    private int mechanic_count = 0;
+    // Handles, indexed by a handle's lower 32 bits; a handle is only valid while its generation matches:
+    private MechanicBase[] handle_mechanics = new MechanicBase[INITIAL_CAPACITY];
+    private int[] handle_slots = new int[INITIAL_CAPACITY];
+    private int[] handle_generations = new int[INITIAL_CAPACITY];
+    private int[] free_handles = new int[INITIAL_CAPACITY];
+    private int free_handle_count = 0;
+    private int handle_count = 0;
+    // Schedules and cancels that were requested while mechanics were running:
+    private int[] command_types = new int[INITIAL_CAPACITY];
+    private long[] command_handles = new long[INITIAL_CAPACITY];
+    private MechanicBase[] command_mechanics = new MechanicBase[INITIAL_CAPACITY];
+    private int command_count = 0;
+    private boolean running_mechanics = false;
+    // Mechanics that are parked until they next need to run:
+    private TimingWheel timing_wheel = new TimingWheel();
+    // Mechanics that are due to execute this tick, which are executed in parallel:
+    private boolean parallel_enabled = false;
+    private MechanicBase[] batch_mechanics = new MechanicBase[INITIAL_CAPACITY];
+    private long[] batch_millis = new long[INITIAL_CAPACITY];
+    private int batch_count = 0;
+    private ForkJoinPool execute_pool = null;
+    private BatchTask batch_task = null;
+    // The batched mechanics partitioned so that a mechanic reading a component runs in the same partition as the mechanic writing it:
+    private int[] batch_parents = new int[INITIAL_CAPACITY];
+    private int[] batch_partitions = new int[INITIAL_CAPACITY];
+    private int[] partition_order = new int[INITIAL_CAPACITY];
+    private int[] partition_starts = new int[INITIAL_CAPACITY + 1];
+    private int partition_count = 0;
 
     /**
-     * Schedules the specified mechanic. 
-     * @param mechanic (MechanicBase) : The specified mechanic. 
-     */
-    public void scheduleMechanic(MechanicBase mechanic) {
-        // Cancel all mechanics requiring the same components as the specified mechanic. 
-        LinkedList<ComponentBase> required_components = mechanic.getRequiredComponents();
-        if(!required_components.isEmpty()) {
-            // Collect all mechanics that share requirements. 
-            LinkedList<MechanicBase> canceled_mechanics = new LinkedList<MechanicBase>();
-            // Iterate through other scheduled mechanics:
-            for(var other_mechanic : mechanics) {
-                // Collect required components of other mechanic.
-                LinkedList<ComponentBase> other_required_components = other_mechanic.getRequiredComponents();
-                // Iterate through other components to compare to required components:
-                for(var other_component : other_required_components) {
-                    for(var required_component : required_components) {
-                        if(other_component == required_component) {
-                            // Add canceled command for overlapping required components.
-                            canceled_mechanics.add(other_mechanic);
+     * Executes every partition of batched mechanics by splitting the partitions into a leaf task per thread, where each leaf task executes 
+     * every partition at its index plus a multiple of the amount of leaf tasks. The mechanics of a partition are executed one after another.
+     */
+    @SuppressWarnings("serial")
+    private class BatchTask extends RecursiveAction {
+        private final RecursiveAction[] leaf_tasks;
+
+        private BatchTask(int leaf_count) {
+            leaf_tasks = new RecursiveAction[leaf_count];
+            for(int i = 0; i < leaf_count; i++) {
+                final int first_index = i;
+                leaf_tasks[i] = new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        for(int partition = first_index; partition < partition_count; partition += leaf_tasks.length) {
+                            for(int i = partition_starts[partition]; i < partition_starts[partition + 1]; i++) {
+                                batch_mechanics[partition_order[i]].execute();
+                            }
                         }
                     }
-                }
+                };
             }
+        }
 
-            for(var canceled_mechanic : canceled_mechanics) {
-                cancelMechanic(canceled_mechanic);
+        @Override
+        protected void compute() {
+            for(var leaf_task : leaf_tasks) {
+                leaf_task.reinitialize();
             }
+            invokeAll(leaf_tasks);
+        }
+    }
+
+    private HashMap<ComponentBase, MechanicBase> component_owners = new HashMap<ComponentBase, MechanicBase>();
+    private ArrayList<ComponentBase> components = new ArrayList<ComponentBase>();
+    private ArrayList<Function<Void, Void>> events = new ArrayList<Function<Void, Void>>();
+    private Clock clock = new RealTimeClock();
+    private static MechanicScheduler scheduler = new MechanicScheduler();
+
+    private MechanicScheduler() {
+        setParallelEnabled(Constants.WINDOW_CHARACTERISTICS.PARALLEL_MECHANICS);
+    }
+
+    /**
+     * Schedules the specified mechanic.
+     * @param mechanic (MechanicBase) : The specified mechanic.
+     * @return The handle of this scheduling of the mechanic, or MechanicScheduler.INVALID_HANDLE if the mechanic requires no components.
+     */
+    public long scheduleMechanic(MechanicBase mechanic) {
+        if(mechanic.getRequiredComponents().isEmpty()) {
+            return INVALID_HANDLE;
+        }
+
+        int handle_index = allocateHandle(mechanic);
+        long handle = getHandle(handle_index);
+        mechanic.is_scheduled = true;
+        if(running_mechanics) {
+            queueCommand(SCHEDULE_COMMAND, handle, null);
+        }
+        else {
+            applySchedule(handle);
+        }
+
+        return handle;
+    }
+
+    private void applySchedule(long handle) {
+        // A scheduling that was canceled before it was applied is no longer valid:
+        if(!isValid(handle)) {
+            return;
+        }
+
+        int handle_index = (int)handle;
+        MechanicBase mechanic = handle_mechanics[handle_index];
+        // A mechanic that's already scheduled is restarted, regardless of whether any of its requirements conflict:
+        if(mechanic.handle_index != FREE_SLOT) {
+            removeMechanic(mechanic.handle_index, true);
+        }
+        // Cancel all mechanics writing the same components as the specified mechanic; mechanics that only read a component never conflict:
+        for(var required_component : mechanic.getRequiredComponents()) {
+            if(mechanic.getAccessMode(required_component) == MechanicBase.READ_ACCESS) {
+                continue;
+            }
+            MechanicBase owner = component_owners.get(required_component);
+            // Canceling the owner releases every component it required, so an owner sharing several components is only canceled once:
+            if(owner != null) {
+                removeMechanic(owner.handle_index, true);
+            }
+        }
+
+        // The handle may have been canceled by a mechanic that ended:
+        if(!isValid(handle)) {
+            return;
+        }
+        for(var required_component : mechanic.getRequiredComponents()) {
+            if(mechanic.getAccessMode(required_component) == MechanicBase.WRITE_ACCESS) {
+                component_owners.put(required_component, mechanic);
+            }
+        }
+
+        attachSlot(handle_index);
+        mechanic.handle_index = handle_index;
+        mechanic.is_scheduled = true;
+    }
+
+    /**
+     * Appends the mechanic of the handle index passed in to the mechanics that are ran every tick.
+     */
+    private void attachSlot(int handle_index) {
+        if(mechanic_count == mechanics.length) {
+            mechanics = Arrays.copyOf(mechanics, mechanics.length * 2);
+            slot_handles = Arrays.copyOf(slot_handles, slot_handles.length * 2);
+        }
+        mechanics[mechanic_count] = handle_mechanics[handle_index];
+        slot_handles[mechanic_count] = handle_index;
+        handle_slots[handle_index] = mechanic_count;
+        mechanic_count++;
+    }
+
+    /**
+     * Removes the mechanic within the slot passed in from the mechanics that are ran every tick, by moving the last mechanic into the slot.
+     */
+    private void detachSlot(int slot) {
+        int last_slot = --mechanic_count;
+        mechanics[slot] = mechanics[last_slot];
+        slot_handles[slot] = slot_handles[last_slot];
+        handle_slots[slot_handles[slot]] = slot;
+        mechanics[last_slot] = null;
+    }
+
+    /**
+     * Parks the mechanic within the slot passed in until the time passed in, at which point it's appended to the mechanics that are
+     * ran every tick again.
+     */
+    private void parkSlot(int slot, long wake_millis) {
+        MechanicBase mechanic = mechanics[slot];
+        int handle_index = slot_handles[slot];
+        detachSlot(slot);
+        handle_slots[handle_index] = PARKED_SLOT;
+        timing_wheel.park(mechanic, wake_millis);
+    }
 
-            mechanic.is_scheduled = true;
-            mechanics.add(mechanic);
+    /**
+     * Appends every parked mechanic to the mechanics that are ran every tick, regardless of when it was parked until.
+     */
+    private void wakeAll() {
+        timing_wheel.expireAll();
+        for(MechanicBase woken = timing_wheel.pollExpired(); woken != null; woken = timing_wheel.pollExpired()) {
+            attachSlot(woken.handle_index);
         }
     }
 
@@ -59,58 +251,365 @@ public class MechanicScheduler
      * @param mechanic (MechanicBase) : The specified mechanic.
      */
     public void cancelMechanic(MechanicBase mechanic) {
-        if(mechanics.contains(mechanic)) {
+        if(running_mechanics) {
+            queueCommand(CANCEL_MECHANIC_COMMAND, INVALID_HANDLE, mechanic);
+        }
+        else if(mechanic.handle_index != FREE_SLOT) {
+            removeMechanic(mechanic.handle_index, true);
+        }
+    }
+
+    /**
+     * Cancels the scheduling of a mechanic that the specified handle identifies. Nothing is canceled if that scheduling has already ended,
+     * even if the same mechanic has been scheduled again since.
+     *
+     * @param handle (long) : The specified handle that was returned by scheduleMechanic(MechanicBase mechanic).
+     */
+    public void cancelMechanic(long handle) {
+        if(running_mechanics) {
+            queueCommand(CANCEL_HANDLE_COMMAND, handle, null);
+        }
+        else if(isValid(handle)) {
+            removeMechanic((int)handle, true);
+        }
+    }
+
+    public void cancelAllMechanics() {
+        if(running_mechanics) {
+            queueCommand(CANCEL_ALL_COMMAND, INVALID_HANDLE, null);
+            return;
+        }
+
+        wakeAll();
+        while(mechanic_count > 0) {
+            removeMechanic(slot_handles[mechanic_count - 1], true);
+        }
+    }
+
+    /**
+     * @return Whether or not the scheduling that the specified handle identifies is still scheduled, or is queued to be scheduled.
+     */
+    public synchronized boolean isScheduled(long handle) {
+        return isValid(handle);
+    }
+
+    /**
+     * Ends the scheduling of the handle index passed in, which either removes the mechanic from the scheduled mechanics, or prevents a
+     * queued scheduling from being applied. The last scheduled mechanic is moved into the removed mechanic's slot, and a parked mechanic 
+     * is removed from the TimingWheel.
+     */
+    private void removeMechanic(int handle_index, boolean interrupted) {
+        MechanicBase mechanic = handle_mechanics[handle_index];
+        int slot = handle_slots[handle_index];
+        if(slot != PENDING_SLOT) {
+            releaseRequirements(mechanic);
+            if(slot == PARKED_SLOT) {
+                timing_wheel.remove(mechanic);
+            }
+            else {
+                detachSlot(slot);
+            }
+            mechanic.handle_index = FREE_SLOT;
+        }
+        freeHandle(handle_index);
+
+        // Only a mechanic that's no longer scheduled under another handle is ended:
+        if(mechanic.handle_index == FREE_SLOT) {
             if(mechanic.is_initialized) {
-                mechanic.end(true);
+                mechanic.end(interrupted);
                 mechanic.is_initialized = false;
             }
+            mechanic.is_scheduled = false;
+        }
+    }
 
-            mechanic.is_scheduled = false; 
-            mechanics.remove(mechanic);
+    /**
+     * Unmaps every component that the specified mechanic writes.
+     */
+    private void releaseRequirements(MechanicBase mechanic) {
+        for(var required_component : mechanic.getRequiredComponents()) {
+            if(component_owners.get(required_component) == mechanic) {
+                component_owners.remove(required_component);
+            }
         }
     }
 
-    public void cancelAllMechanics() {
-        for(int i = 0; i < mechanics.size(); i++) {
-            mechanics.get(i).end(true);
-            mechanics.remove(i);
+    private synchronized int allocateHandle(MechanicBase mechanic) {
+        int handle_index;
+        if(free_handle_count > 0) {
+            handle_index = free_handles[--free_handle_count];
+        }
+        else {
+            if(handle_count == handle_mechanics.length) {
+                handle_mechanics = Arrays.copyOf(handle_mechanics, handle_mechanics.length * 2);
+                handle_slots = Arrays.copyOf(handle_slots, handle_slots.length * 2);
+                handle_generations = Arrays.copyOf(handle_generations, handle_generations.length * 2);
+                free_handles = Arrays.copyOf(free_handles, free_handles.length * 2);
+            }
+            handle_index = handle_count++;
         }
+
+        handle_mechanics[handle_index] = mechanic;
+        handle_slots[handle_index] = PENDING_SLOT;
+        return handle_index;
+    }
+
+    private void freeHandle(int handle_index) {
+        handle_mechanics[handle_index] = null;
+        handle_slots[handle_index] = FREE_SLOT;
+        // Every handle that was given out for this index is invalidated:
+        handle_generations[handle_index]++;
+        free_handles[free_handle_count++] = handle_index;
+    }
+
+    private long getHandle(int handle_index) {
+        return ((long)handle_generations[handle_index] << 32) | handle_index;
+    }
+
+    private synchronized boolean isValid(long handle) {
+        int handle_index = (int)handle;
+        return handle != INVALID_HANDLE && handle_index >= 0 && handle_index < handle_count
+            && handle_generations[handle_index] == (int)(handle >>> 32) && handle_slots[handle_index] != FREE_SLOT;
+    }
+
+    private synchronized void queueCommand(int type, long handle, MechanicBase mechanic) {
+        if(command_count == command_types.length) {
+            command_types = Arrays.copyOf(command_types, command_types.length * 2);
+            command_handles = Arrays.copyOf(command_handles, command_handles.length * 2);
+            command_mechanics = Arrays.copyOf(command_mechanics, command_mechanics.length * 2);
+        }
+
+        command_types[command_count] = type;
+        command_handles[command_count] = handle;
+        command_mechanics[command_count] = mechanic;
+        command_count++;
+    }
+
+    /**
+     * Applies every queued schedule and cancel in the order they were requested. Mechanics that end while the commands are applied may
+     * schedule or cancel other mechanics, which is then done immediately.
+     */
+    private void applyCommands() {
+        for(int i = 0; i < command_count; i++) {
+            switch(command_types[i]) {
+                case SCHEDULE_COMMAND: applySchedule(command_handles[i]); break;
+                case CANCEL_HANDLE_COMMAND: cancelMechanic(command_handles[i]); break;
+                case CANCEL_MECHANIC_COMMAND: cancelMechanic(command_mechanics[i]); break;
+                case CANCEL_ALL_COMMAND: cancelAllMechanics(); break;
+            }
+            command_mechanics[i] = null;
+        }
+        command_count = 0;
     }
 
     /**
      * This method is periodically called based on the application's refresh rate! This must happen!
      */
     public void runMechanics() {
-        for(int i = 0; i < mechanics.size(); i++) {
+        running_mechanics = true;
+        try {
+            runScheduledMechanics();
+        }
+        finally {
+            running_mechanics = false;
+        }
+        applyCommands();
+    }
+
+    private void runScheduledMechanics() {
+        // Mechanics that were parked until now are ran along with the rest:
+        timing_wheel.advance(clock.getMillis());
+        for(MechanicBase woken = timing_wheel.pollExpired(); woken != null; woken = timing_wheel.pollExpired()) {
+            attachSlot(woken.handle_index);
+        }
+
+        int slot = 0;
+        batch_count = 0;
+        while(slot < mechanic_count) {
+            MechanicBase mechanic = mechanics[slot];
+            long millis = mechanic.getClock().getMillis();
             // Define mechanic lifetime policy:
-            if(!mechanics.get(i).is_initialized) {
-                //System.out.println("init");
-                mechanics.get(i).initialize();
-                mechanics.get(i).is_initialized = true;
+            if(!mechanic.is_initialized) {
+                mechanic.initialize();
+                mechanic.is_initialized = true;
+            }
+            else if(mechanic.isFinished()) {
+                // The last scheduled mechanic is moved into this slot, so the slot is ran again:
+                removeMechanic(slot_handles[slot], false);
+                continue;
+            }
+            else if(millis - mechanic.initial_periodic_millis >= mechanic.getExecutionalPeriodicDelay()) {
+                mechanic.initial_periodic_millis = millis;
+                if(parallel_enabled && mechanic.isThreadSafe() && !mechanic.getRequiredComponents().isEmpty()) {
+                    // Executed along with every other batched mechanic once every slot has been ran:
+                    addToBatch(mechanic, millis);
+                    slot++;
+                    continue;
+                }
+                mechanic.execute();
             }
-            else if(mechanics.get(i).isFinished()) {
-                //System.out.println("done");
-                mechanics.get(i).end(false);
-                mechanics.get(i).is_initialized = false; 
-                mechanics.get(i).is_scheduled = false;
-                mechanics.remove(i);
-                i--; 
+
+            if(!parkIfIdle(slot, mechanic, millis)) {
+                slot++;
             }
-            else if(AppBase.getMillis() - mechanics.get(i).initial_periodic_millis >= mechanics.get(i).getExecutionalPeriodicDelay()){
-                //System.out.println("exe");
-                mechanics.get(i).initial_periodic_millis = AppBase.getMillis();
-                mechanics.get(i).execute();
+        }
+
+        if(batch_count > 0) {
+            executeBatch();
+            for(int i = 0; i < batch_count; i++) {
+                MechanicBase mechanic = batch_mechanics[i];
+                batch_mechanics[i] = null;
+                mechanic.batch_index = -1;
+                if(mechanic.handle_index != FREE_SLOT && handle_slots[mechanic.handle_index] >= 0) {
+                    parkIfIdle(handle_slots[mechanic.handle_index], mechanic, batch_millis[i]);
+                }
             }
+            batch_count = 0;
         }
     }
 
+    /**
+     * Parks the mechanic within the slot passed in if it won't need to run for a while, as long as it's timed by the same Clock as the 
+     * TimingWheel. The last scheduled mechanic is moved into the slot of a parked mechanic.
+     * 
+     * @return Whether or not the mechanic was parked.
+     */
+    private boolean parkIfIdle(int slot, MechanicBase mechanic, long millis) {
+        if(mechanic.is_initialized && mechanics[slot] == mechanic && mechanic.getClock() == clock) {
+            long wake_millis = mechanic.getWakeMillis();
+            if(wake_millis > millis) {
+                parkSlot(slot, wake_millis);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void addToBatch(MechanicBase mechanic, long millis) {
+        if(batch_count == batch_mechanics.length) {
+            batch_mechanics = Arrays.copyOf(batch_mechanics, batch_mechanics.length * 2);
+            batch_millis = Arrays.copyOf(batch_millis, batch_millis.length * 2);
+            batch_parents = Arrays.copyOf(batch_parents, batch_parents.length * 2);
+            batch_partitions = Arrays.copyOf(batch_partitions, batch_partitions.length * 2);
+            partition_order = Arrays.copyOf(partition_order, partition_order.length * 2);
+            partition_starts = Arrays.copyOf(partition_starts, partition_starts.length * 2);
+        }
+        mechanic.batch_index = batch_count;
+        batch_mechanics[batch_count] = mechanic;
+        batch_millis[batch_count] = millis;
+        batch_count++;
+    }
+
+    /**
+     * Executes every batched mechanic, across the ForkJoinPool's threads once there are enough batched mechanics, and returns once every
+     * batched mechanic has been executed. No two batched mechanics write the same component, and a mechanic reading a component is 
+     * executed within the same partition as the mechanic writing it, so each partition is independent of the rest.
+     */
+    private void executeBatch() {
+        if(batch_count < Constants.WINDOW_CHARACTERISTICS.PARALLEL_MECHANICS_MIN_BATCH || execute_pool.getParallelism() == 1) {
+            for(int i = 0; i < batch_count; i++) {
+                batch_mechanics[i].execute();
+            }
+            return;
+        }
+
+        partitionBatch();
+        // The same tasks are reused every tick, so that nothing is allocated:
+        batch_task.reinitialize();
+        execute_pool.invoke(batch_task);
+    }
+
+    /**
+     * Partitions the batched mechanics by joining every mechanic that reads a component with the batched mechanic that writes it through a
+     * union-find, then orders the batched mechanics by partition, keeping the order they were batched in within each partition.
+     */
+    private void partitionBatch() {
+        for(int i = 0; i < batch_count; i++) {
+            batch_parents[i] = i;
+        }
+        for(int i = 0; i < batch_count; i++) {
+            var read_components = batch_mechanics[i].getReadComponents();
+            if(read_components.isEmpty()) {
+                continue;
+            }
+            for(var read_component : read_components) {
+                MechanicBase writer = component_owners.get(read_component);
+                if(writer != null && writer.batch_index >= 0) {
+                    int root = findPartition(i);
+                    int writer_root = findPartition(writer.batch_index);
+                    // The lower index becomes the root, so a partition's root is its first batched mechanic:
+                    batch_parents[Math.max(root, writer_root)] = Math.min(root, writer_root);
+                }
+            }
+        }
+
+        // Each partition is numbered in order of its root, and its size is counted:
+        partition_count = 0;
+        for(int i = 0; i < batch_count; i++) {
+            int root = findPartition(i);
+            if(root == i) {
+                batch_partitions[i] = partition_count++;
+                partition_starts[partition_count] = 0;
+            }
+            else {
+                batch_partitions[i] = batch_partitions[root];
+            }
+            partition_starts[batch_partitions[i] + 1]++;
+        }
+        partition_starts[0] = 0;
+        for(int partition = 0; partition < partition_count; partition++) {
+            partition_starts[partition + 1] += partition_starts[partition];
+        }
+
+        // Each partition's start is advanced while its mechanics are placed, then every start is restored:
+        for(int i = 0; i < batch_count; i++) {
+            partition_order[partition_starts[batch_partitions[i]]++] = i;
+        }
+        for(int partition = partition_count; partition > 0; partition--) {
+            partition_starts[partition] = partition_starts[partition - 1];
+        }
+        partition_starts[0] = 0;
+    }
+
+    private int findPartition(int index) {
+        while(batch_parents[index] != index) {
+            // Path halving keeps every partition's tree shallow:
+            batch_parents[index] = batch_parents[batch_parents[index]];
+            index = batch_parents[index];
+        }
+        return index;
+    }
+
+    /**
+     * @return The amount of mechanics that are currently scheduled.
+     */
+    public int getScheduledMechanicCount() {
+        return mechanic_count + timing_wheel.size();
+    }
+
+    /**
+     * @return The amount of scheduled mechanics that are parked until they next need to run.
+     */
+    public int getParkedMechanicCount() {
+        return timing_wheel.size();
+    }
+
+    /**
+     * @return The amount of registered events.
+     */
+    public int getEventCount() {
+        return events.size();
+    }
+
     public void registerEvent(Function<Void, Void> event_def) {
         events.add(event_def);
     }
 
     public void runEvents() {
-        for(var event : events) {
-            event.apply(null);
+        // Events may register other events while they run, which are ran as well:
+        for(int i = 0; i < events.size(); i++) {
+            events.get(i).apply(null);
         }
     }
 
@@ -119,12 +618,73 @@ public class MechanicScheduler
     }
 
     public void runComponentPeriodics() {
-        for(var component : components) {
-            component.periodic();
+        for(int i = 0; i < components.size(); i++) {
+            components.get(i).periodic();
+        }
+    }
+
+    /**
+     * Used to enable or disable parallel execution. Moreover, when enabled, the execute() method of every due mechanic is called across
+     * the threads of a ForkJoinPool, and runMechanics() only returns once every mechanic has been executed, so every mechanic has finished
+     * executing before the tick's RenderSnapshot is published. The initialize(), isFinished(), and end(boolean interrupted) methods of a
+     * scheduled mechanic are always called on the tick thread.
+     * 
+     * @param enabled (boolean) : Whether or not mechanics should be executed in parallel.
+     * @see Mechanics that are not thread-safe, such as mechanics that change state outside of their required components, must be marked 
+     * with MechanicBase.setThreadSafe(false), and are then always executed on the tick thread. Mechanic groups are never thread-safe,
+     * since executing a group initializes, finishes, and ends its mechanics.
+     */
+    public void setParallelEnabled(boolean enabled) {
+        if(enabled && execute_pool == null) {
+            setParallelism(Constants.WINDOW_CHARACTERISTICS.MECHANIC_PARALLELISM);
         }
+        parallel_enabled = enabled;
+    }
+
+    /**
+     * @return Whether or not mechanics are executed in parallel.
+     */
+    public boolean isParallelEnabled() {
+        return parallel_enabled;
+    }
+
+    /**
+     * Used to set how many threads mechanics are executed on when parallel execution is enabled.
+     * @param parallelism (int) : The specified positive amount of threads.
+     */
+    public void setParallelism(int parallelism) {
+        if(execute_pool != null) {
+            execute_pool.shutdown();
+        }
+        // The pool index isn't assigned until a thread registers with the pool, so threads are numbered as they're created instead:
+        AtomicInteger thread_count = new AtomicInteger();
+        execute_pool = new ForkJoinPool(Math.max(parallelism, 1), (fork_join_pool) -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(fork_join_pool);
+            thread.setName("MechanicScheduler-" + thread_count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+        batch_task = new BatchTask(execute_pool.getParallelism());
+    }
+
+    /**
+     * Used to set the Clock that every mechanic's timing is measured with, along with every animation and AppBase.getMillis().
+     * @param clock (Clock) : The specified Clock, such as a RealTimeClock, a ScaledClock, or a VirtualClock.
+     */
+    public void setClock(Clock clock) {
+        // Mechanics were parked by the previous Clock's time:
+        wakeAll();
+        this.clock = clock;
+    }
+
+    /**
+     * @return The Clock that every mechanic's timing is measured with.
+     */
+    public Clock getClock() {
+        return clock;
     }
 
     public static MechanicScheduler getInstance() {
         return scheduler;
     }
-}
\ No newline at end of file
+}
@@ -1,70 +1,106 @@
 package fundamentals.mechanic;
 
-import java.util.LinkedList;
-
-import fundamentals.appbase.AppBase;
-
+import java.util.Arrays;
 public class ParallelMechanicGroup extends MechanicBase
 {
-    private LinkedList<MechanicBase> mechanics = new LinkedList<MechanicBase>(); 
+    private MechanicBase[] mechanics = new MechanicBase[0];
+    private int mechanic_count = 0;
     
     public ParallelMechanicGroup() {
         setExecutionalPeriodicDelay(1);
     }
 
     public void addMechanics(MechanicBase... mechanics) {
+        this.mechanics = Arrays.copyOf(this.mechanics, mechanic_count + mechanics.length);
         for(var mech : mechanics) {
-            this.mechanics.addLast(mech);
-            addRequirements(mech.getRequiredComponents());
+            this.mechanics[mechanic_count++] = mech;
+            for(var component : mech.getRequiredComponents()) {
+                addRequirements(mech.getAccessMode(component), component);
+            }
         }
     }
 
+    /**
+     * @return False, since executing the group calls the initialize(), isFinished(), and end(boolean interrupted) methods of its mechanics,
+     * which must be called on the tick thread.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
     @Override
     public void execute() {
-        for(int i = 0; i < mechanics.size(); i++) {
-            if(!mechanics.get(i).is_initialized) {
-                mechanics.get(i).is_scheduled = true;
-                mechanics.get(i).initialize();
-                mechanics.get(i).is_initialized = true;
+        int i = 0;
+        while(i < mechanic_count) {
+            MechanicBase mechanic = mechanics[i];
+            if(!mechanic.is_initialized) {
+                mechanic.is_scheduled = true;
+                mechanic.initialize();
+                mechanic.is_initialized = true;
             }
-            else if(mechanics.get(i).isFinished()) {
-                mechanics.get(i).end(false);
-                mechanics.get(i).is_initialized = false;
-                mechanics.get(i).is_scheduled = false;
-                mechanics.remove(i);
-                i--;
+            else if(mechanic.isFinished()) {
+                mechanic.end(false);
+                mechanic.is_initialized = false;
+                mechanic.is_scheduled = false;
+                // The last mechanic is moved into this index, so the index is ran again:
+                mechanics[i] = mechanics[--mechanic_count];
+                mechanics[mechanic_count] = null;
+                continue;
             }
-            else if(AppBase.getMillis() - mechanics.get(i).initial_periodic_millis >= mechanics.get(i).getExecutionalPeriodicDelay()) {
-                mechanics.get(i).initial_periodic_millis = AppBase.getMillis();
-                mechanics.get(i).execute();
+            else if(mechanic.getClock().getMillis() - mechanic.initial_periodic_millis >= mechanic.getExecutionalPeriodicDelay()) {
+                mechanic.initial_periodic_millis = mechanic.getClock().getMillis();
+                mechanic.execute();
             }
+            i++;
         }
     }
 
     @Override
     public void end(boolean interrupted) {
         if(interrupted) {
-            for(int i = 0; i < mechanics.size(); i++) {
-                if(mechanics.get(i).is_initialized) {
-                    mechanics.get(i).end(true);
-                    mechanics.get(i).is_initialized = false; 
+            for(int i = 0; i < mechanic_count; i++) {
+                if(mechanics[i].is_initialized) {
+                    mechanics[i].end(true);
+                    mechanics[i].is_initialized = false; 
                 }
 
-                mechanics.get(i).is_scheduled = false;
-                mechanics.remove(i);
-                i--;
+                mechanics[i].is_scheduled = false;
+                mechanics[i] = null;
             }
+            mechanic_count = 0;
         }
     }
 
+    /**
+     * @return The earliest time that any added mechanic next needs to run, or the group's own wake time if an added mechanic has not 
+     * been initialized or is timed by a different Clock. Unit of measurement: Milliseconds.
+     */
+    @Override
+    public long getWakeMillis() {
+        if(mechanic_count == 0) {
+            return super.getWakeMillis();
+        }
+
+        long wake_millis = Long.MAX_VALUE;
+        for(int i = 0; i < mechanic_count; i++) {
+            if(!mechanics[i].is_initialized || mechanics[i].getClock() != getClock()) {
+                return super.getWakeMillis();
+            }
+            wake_millis = Math.min(wake_millis, mechanics[i].getWakeMillis());
+        }
+
+        return Math.max(wake_millis, super.getWakeMillis());
+    }
+
     @Override
     public boolean isFinished() {
-        for(var mech : mechanics) {
-            if(!mech.isFinished())  {
+        for(int i = 0; i < mechanic_count; i++) {
+            if(!mechanics[i].isFinished())  {
                 return false; 
             }
         }
 
         return true;
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,6 @@
 package fundamentals.mechanic;
 
-import java.util.LinkedList;
-
-import fundamentals.appbase.AppBase;
-
+import java.util.Arrays;
 /**
  * A variation of MechanicBase, SequentialMechanicGroup mechanics are used to add or append other mechanics to it in a consecutive
  * fashion in order to schedule and run a sequence of mechanics in a orderly fashion. 
@@ -15,7 +12,8 @@ import fundamentals.appbase.AppBase;
  */
 public class SequentialMechanicGroup extends MechanicBase
 {
-    private LinkedList<MechanicBase> mechanics = new LinkedList<MechanicBase>();
+    private MechanicBase[] mechanics = new MechanicBase[0];
+    private int mechanic_count = 0;
     private int current_index = 0;
 
     /**
@@ -43,32 +41,45 @@ public class SequentialMechanicGroup extends MechanicBase
      * @param mechanics (MechanicBase...) : The specified variable-argument mechanics to add. 
      */
     public void addMechanics(MechanicBase... mechanics) {
+        this.mechanics = Arrays.copyOf(this.mechanics, mechanic_count + mechanics.length);
         for(var mech : mechanics) {
-            this.mechanics.addLast(mech);
-            addRequirements(mech.getRequiredComponents());
+            this.mechanics[mechanic_count++] = mech;
+            for(var component : mech.getRequiredComponents()) {
+                addRequirements(mech.getAccessMode(component), component);
+            }
         }
     }
     
+    /**
+     * @return False, since executing the group calls the initialize(), isFinished(), and end(boolean interrupted) methods of its mechanics,
+     * which must be called on the tick thread.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
     @Override
     public void execute() {
-        if(current_index < 0 || current_index >= mechanics.size()) {
+        if(current_index < 0 || current_index >= mechanic_count) {
             return;
         }
 
-        if(!mechanics.get(current_index).is_initialized) {
-            mechanics.get(current_index).is_scheduled = true;
-            mechanics.get(current_index).initialize();
-            mechanics.get(current_index).is_initialized = true;
+        MechanicBase mechanic = mechanics[current_index];
+        if(!mechanic.is_initialized) {
+            mechanic.is_scheduled = true;
+            mechanic.initialize();
+            mechanic.is_initialized = true;
         }
-        else if(!mechanics.get(current_index).isFinished()) {
-            mechanics.get(current_index).end(false);
-            mechanics.get(current_index).is_initialized = false;
-            mechanics.get(current_index).is_scheduled = false;
+        else if(mechanic.isFinished()) {
+            mechanic.end(false);
+            mechanic.is_initialized = false;
+            mechanic.is_scheduled = false;
             current_index++;
         }
-        else if(AppBase.getMillis() - mechanics.get(current_index).initial_periodic_millis >= mechanics.get(current_index).getExecutionalPeriodicDelay()) {
-            mechanics.get(current_index).initial_periodic_millis = AppBase.getMillis();
-            mechanics.get(current_index).execute();
+        else if(mechanic.getClock().getMillis() - mechanic.initial_periodic_millis >= mechanic.getExecutionalPeriodicDelay()) {
+            mechanic.initial_periodic_millis = mechanic.getClock().getMillis();
+            mechanic.execute();
         }
     }
 
@@ -76,21 +87,34 @@ public class SequentialMechanicGroup extends MechanicBase
     public void end(boolean interrupted) {
         current_index = 0;
         if(interrupted) {
-            for(int i = 0; i < mechanics.size(); i++) {
-                if(mechanics.get(i).is_initialized) {
-                    mechanics.get(i).end(true);
-                    mechanics.get(i).is_initialized = false; 
+            for(int i = 0; i < mechanic_count; i++) {
+                if(mechanics[i].is_initialized) {
+                    mechanics[i].end(true);
+                    mechanics[i].is_initialized = false; 
                 }
 
-                mechanics.get(i).is_scheduled = false; 
-                mechanics.remove(i);
-                i--;
+                mechanics[i].is_scheduled = false; 
+                mechanics[i] = null;
             }
+            mechanic_count = 0;
         }
     }
 
+    /**
+     * @return The time that the current added mechanic next needs to run, or the group's own wake time if the current added mechanic has
+     * not been initialized or is timed by a different Clock. Unit of measurement: Milliseconds.
+     */
+    @Override
+    public long getWakeMillis() {
+        if(current_index < mechanic_count && mechanics[current_index].is_initialized && mechanics[current_index].getClock() == getClock()) {
+            return Math.max(mechanics[current_index].getWakeMillis(), super.getWakeMillis());
+        }
+
+        return super.getWakeMillis();
+    }
+
     @Override
     public boolean isFinished() {
-        return current_index >= mechanics.size();
+        return current_index >= mechanic_count;
     }
 }
\ No newline at end of file
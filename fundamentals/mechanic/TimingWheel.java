@@ -0,0 +1,258 @@
+package fundamentals.mechanic;
+
+/**
+ * A hierarchical timing wheel that parks mechanics until a deadline in milliseconds. Moreover, the wheel is made up of several levels of
+ * slots, where each slot of the first level spans a single millisecond, and each slot of every following level spans a whole revolution of
+ * the previous level. A mechanic is parked within the slot that its deadline falls into on the lowest level that reaches it, and is moved
+ * down a level whenever the wheel's time reaches its slot, until it expires.
+ *
+ * @see
+ * Note: Parking, unparking, and expiring a mechanic each take constant time, and parked mechanics are never touched while time passes unless
+ * their slot is reached. Every slot is a doubly linked list that's threaded through the parked mechanics themselves, so nothing is allocated.
+ * Each level keeps a bit per slot marking whether the slot holds any mechanics, so advancing jumps straight to the next slot that's reached
+ * rather than stepping through every millisecond in between.
+ *
+ * @see
+ * Note: Expired mechanics are kept in order of expiry until they are polled with pollExpired().
+ */
+class TimingWheel
+{
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long RANGE_MILLIS = 1L << (SLOT_BITS * LEVELS);
+    private static final int NO_BUCKET = -1;
+    private static final int EXPIRED_BUCKET = SLOTS * LEVELS;
+
+    // The head of each slot's list, followed by the head of the expired list:
+    private final MechanicBase[] heads = new MechanicBase[SLOTS * LEVELS + 1];
+    // A bit per slot of each level, which is set while the slot holds any mechanics:
+    private final long[] occupied_slots = new long[LEVELS];
+    private MechanicBase expired_tail = null;
+    private long current_millis = 0;
+    private boolean started = false;
+    private int parked_count = 0;
+    private int expired_count = 0;
+
+    /**
+     * Parks the mechanic passed in until the deadline passed in, or expires it immediately if the deadline has already been reached. The
+     * wheel must have been advanced to the current time first.
+     * 
+     * @param deadline_millis (long) : The specified time at which the mechanic expires. Unit of measurement: Milliseconds.
+     */
+    void park(MechanicBase mechanic, long deadline_millis) {
+        mechanic.wheel_deadline_millis = deadline_millis;
+        insert(mechanic);
+    }
+
+    private void insert(MechanicBase mechanic) {
+        long delta_millis = mechanic.wheel_deadline_millis - current_millis;
+        if(delta_millis <= 0) {
+            appendExpired(mechanic);
+            return;
+        }
+
+        // Deadlines beyond the top level's revolution are parked at the end of the revolution, and reparked from there:
+        long slot_millis = current_millis + Math.min(delta_millis, RANGE_MILLIS - 1);
+        int level = 0;
+        while(level < LEVELS - 1 && (slot_millis - current_millis) >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+
+        link(mechanic, level * SLOTS + (int)((slot_millis >>> (SLOT_BITS * level)) & SLOT_MASK));
+        parked_count++;
+    }
+
+    /**
+     * Removes the mechanic passed in from the wheel, whether it's still parked or has already expired.
+     */
+    void remove(MechanicBase mechanic) {
+        if(mechanic.wheel_bucket == EXPIRED_BUCKET) {
+            if(mechanic == expired_tail) {
+                expired_tail = mechanic.wheel_previous;
+            }
+            expired_count--;
+        }
+        else if(mechanic.wheel_bucket != NO_BUCKET) {
+            parked_count--;
+        }
+        unlink(mechanic);
+    }
+
+    /**
+     * Advances the wheel's time up to the time passed in, expiring every mechanic whose deadline is reached. Moreover, only the times at
+     * which an occupied slot is reached are visited, so the cost doesn't depend on how much time has passed.
+     * 
+     * @param millis (long) : The specified current time. Unit of measurement: Milliseconds.
+     */
+    void advance(long millis) {
+        if(!started) {
+            current_millis = millis;
+            started = true;
+            return;
+        }
+        else if(millis - current_millis >= RANGE_MILLIS && parked_count > 0) {
+            // Every slot would be reached, so every mechanic is expired or parked again from the new time at once:
+            repark(millis);
+            return;
+        }
+
+        while(parked_count > 0) {
+            long next_millis = getNextSlotMillis();
+            if(next_millis > millis) {
+                break;
+            }
+
+            current_millis = next_millis;
+            // Whenever a level completes a revolution, the next level's current slot is moved down:
+            for(int level = 1; level < LEVELS; level++) {
+                if((current_millis & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                    break;
+                }
+                cascade(level * SLOTS + (int)((current_millis >>> (SLOT_BITS * level)) & SLOT_MASK));
+            }
+
+            int bucket = (int)(current_millis & SLOT_MASK);
+            while(heads[bucket] != null) {
+                MechanicBase mechanic = heads[bucket];
+                unlink(mechanic);
+                parked_count--;
+                appendExpired(mechanic);
+            }
+        }
+        current_millis = Math.max(current_millis, millis);
+    }
+
+    /**
+     * @return The earliest time after the wheel's time at which an occupied slot of any level is reached. Unit of measurement: Milliseconds.
+     */
+    private long getNextSlotMillis() {
+        long next_millis = Long.MAX_VALUE;
+        for(int level = 0; level < LEVELS; level++) {
+            if(occupied_slots[level] == 0) {
+                continue;
+            }
+
+            // The slot of each level advances once per revolution of the previous level:
+            int shift = SLOT_BITS * level;
+            long revolution = current_millis >>> shift;
+            long distance = Long.numberOfTrailingZeros(Long.rotateRight(occupied_slots[level], (int)((revolution + 1) & SLOT_MASK))) + 1;
+            next_millis = Math.min(next_millis, (revolution + distance) << shift);
+        }
+        return next_millis;
+    }
+
+    /**
+     * Removes every parked mechanic from its slot, then parks each one again from the time passed in, expiring those that have been reached.
+     */
+    private void repark(long millis) {
+        MechanicBase reparked = null;
+        for(int bucket = 0; bucket < EXPIRED_BUCKET; bucket++) {
+            while(heads[bucket] != null) {
+                MechanicBase mechanic = heads[bucket];
+                unlink(mechanic);
+                parked_count--;
+                // The removed mechanics are chained through wheel_next until they're parked again:
+                mechanic.wheel_next = reparked;
+                reparked = mechanic;
+            }
+        }
+
+        current_millis = millis;
+        while(reparked != null) {
+            MechanicBase mechanic = reparked;
+            reparked = mechanic.wheel_next;
+            insert(mechanic);
+        }
+    }
+
+    private void cascade(int bucket) {
+        while(heads[bucket] != null) {
+            MechanicBase mechanic = heads[bucket];
+            unlink(mechanic);
+            parked_count--;
+            insert(mechanic);
+        }
+    }
+
+    /**
+     * Expires every parked mechanic, regardless of its deadline. The wheel's time is then restarted by the next call to advance(long millis),
+     * such as when the time is measured by a different Clock.
+     */
+    void expireAll() {
+        for(int bucket = 0; bucket < EXPIRED_BUCKET; bucket++) {
+            while(heads[bucket] != null) {
+                MechanicBase mechanic = heads[bucket];
+                unlink(mechanic);
+                parked_count--;
+                appendExpired(mechanic);
+            }
+        }
+        started = false;
+    }
+
+    /**
+     * @return The mechanic that expired first and has not yet been polled, which is removed from the wheel, or null if there is none.
+     */
+    MechanicBase pollExpired() {
+        MechanicBase mechanic = heads[EXPIRED_BUCKET];
+        if(mechanic != null) {
+            remove(mechanic);
+        }
+        return mechanic;
+    }
+
+    /**
+     * @return The amount of mechanics within the wheel, including expired mechanics that have not yet been polled.
+     */
+    int size() {
+        return parked_count + expired_count;
+    }
+
+    private void appendExpired(MechanicBase mechanic) {
+        // Expired mechanics are appended rather than prepended, so that they're polled in the order they expired:
+        mechanic.wheel_bucket = EXPIRED_BUCKET;
+        mechanic.wheel_next = null;
+        mechanic.wheel_previous = expired_tail;
+        if(expired_tail != null) {
+            expired_tail.wheel_next = mechanic;
+        }
+        else {
+            heads[EXPIRED_BUCKET] = mechanic;
+        }
+        expired_tail = mechanic;
+        expired_count++;
+    }
+
+    private void link(MechanicBase mechanic, int bucket) {
+        if(bucket != EXPIRED_BUCKET) {
+            occupied_slots[bucket >>> SLOT_BITS] |= 1L << (bucket & SLOT_MASK);
+        }
+        mechanic.wheel_bucket = bucket;
+        mechanic.wheel_previous = null;
+        mechanic.wheel_next = heads[bucket];
+        if(heads[bucket] != null) {
+            heads[bucket].wheel_previous = mechanic;
+        }
+        heads[bucket] = mechanic;
+    }
+
+    private void unlink(MechanicBase mechanic) {
+        if(mechanic.wheel_previous != null) {
+            mechanic.wheel_previous.wheel_next = mechanic.wheel_next;
+        }
+        else if(mechanic.wheel_bucket != NO_BUCKET) {
+            heads[mechanic.wheel_bucket] = mechanic.wheel_next;
+            if(mechanic.wheel_next == null && mechanic.wheel_bucket != EXPIRED_BUCKET) {
+                occupied_slots[mechanic.wheel_bucket >>> SLOT_BITS] &= ~(1L << (mechanic.wheel_bucket & SLOT_MASK));
+            }
+        }
+        if(mechanic.wheel_next != null) {
+            mechanic.wheel_next.wheel_previous = mechanic.wheel_previous;
+        }
+        mechanic.wheel_next = null;
+        mechanic.wheel_previous = null;
+        mechanic.wheel_bucket = NO_BUCKET;
+    }
+}
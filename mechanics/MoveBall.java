@@ -2,7 +2,6 @@ package mechanics;
 
 import components.Ball;
 import fundamentals.Constants;
-import fundamentals.appbase.AppBase;
 import fundamentals.mechanic.MechanicBase;
 
 public class MoveBall extends MechanicBase
@@ -11,7 +10,7 @@ public class MoveBall extends MechanicBase
     private int speed = 0;
     private boolean cool_down = false;
     private int elapsed_cool_down_millis = 0;
-    private int initial_cool_down_millis = 0;
+    private long initial_cool_down_millis = 0;
     public MoveBall(Ball ball, int speed) {
         this.ball = ball;
         this.speed = Math.max(speed, 0);
@@ -30,15 +29,15 @@ public class MoveBall extends MechanicBase
         || ball.getCoordinates().getX() > Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH - (ball.getWidth() / 2)) && !cool_down) {
             ball.x_velo = -ball.x_velo;
             cool_down = true;
-            initial_cool_down_millis = AppBase.getMillis();
+            initial_cool_down_millis = getClock().getMillis();
         }
         if((ball.getCoordinates().getY() < ball.getHeight() / 2 
         || ball.getCoordinates().getY() > Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT - (ball.getHeight() / 2)) && !cool_down) {
             ball.y_velo = -ball.y_velo;
             cool_down = true;
-            initial_cool_down_millis = AppBase.getMillis();
+            initial_cool_down_millis = getClock().getMillis();
         }
-        if(cool_down && AppBase.getMillis() - initial_cool_down_millis >= elapsed_cool_down_millis) {
+        if(cool_down && getClock().getMillis() - initial_cool_down_millis >= elapsed_cool_down_millis) {
             cool_down = false;
         }
     }